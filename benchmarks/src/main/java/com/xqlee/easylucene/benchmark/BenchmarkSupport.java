@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xqlee.easylucene.benchmark;
+
+import cn.hutool.core.io.FileUtil;
+import com.xqlee.easylucene.autoconfigure.EasyLuceneAutoConfiguration;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 基准测试公共支持：在临时目录上启动只包含 starter 的 Spring 容器
+ */
+final class BenchmarkSupport {
+
+    /** Lucene 6 的 MMapDirectory 在 JDK 17 上需要开放 java.nio 才能释放映射 **/
+    static final String ADD_OPENS_NIO = "--add-opens=java.base/java.nio=ALL-UNNAMED";
+    static final String ADD_OPENS_REF = "--add-opens=java.base/jdk.internal.ref=ALL-UNNAMED";
+    static final String ADD_OPENS_MISC = "--add-opens=java.base/jdk.internal.misc=ALL-UNNAMED";
+
+    private BenchmarkSupport() {
+        throw new UnsupportedOperationException("BenchmarkSupport Utility class");
+    }
+
+    /**
+     * 创建临时索引根目录
+     * @return 目录
+     * @throws IOException 创建失败
+     */
+    static Path createStorePath() throws IOException {
+        return Files.createTempDirectory("easy-lucene-bench");
+    }
+
+    /**
+     * 启动容器
+     * @param storePath 索引根目录
+     * @param properties 额外的 spring.lucene.* 配置(不含前缀)
+     * @return 容器
+     */
+    static AnnotationConfigApplicationContext start(Path storePath, Map<String, Object> properties) {
+        Map<String, Object> source = new HashMap<>();
+        source.put("spring.lucene.store_path", storePath.toString());
+        properties.forEach((key, value) -> source.put("spring.lucene." + key, value));
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", source));
+        context.register(EasyLuceneAutoConfiguration.class);
+        context.refresh();
+        return context;
+    }
+
+    /**
+     * 关闭容器并删除临时目录
+     * @param context 容器
+     * @param storePath 索引根目录
+     */
+    static void stop(AnnotationConfigApplicationContext context, Path storePath) {
+        if (context != null) {
+            context.close();
+        }
+        if (storePath != null) {
+            FileUtil.del(storePath.toFile());
+        }
+    }
+}
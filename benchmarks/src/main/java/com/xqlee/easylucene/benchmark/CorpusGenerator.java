@@ -0,0 +1,107 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xqlee.easylucene.benchmark;
+
+import com.xqlee.easylucene.model.IndexDoc;
+import com.xqlee.easylucene.model.IndexField;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 基准测试语料生成器
+ * 固定随机种子生成中英文混合文档，保证每次运行语料一致、结果可对比
+ */
+public final class CorpusGenerator {
+
+    /** 默认随机种子 **/
+    public static final long DEFAULT_SEED = 20170101L;
+
+    /** 文档唯一标识字段 **/
+    public static final String FIELD_ID = "id";
+    /** 标题字段(分词) **/
+    public static final String FIELD_TITLE = "title";
+    /** 内容字段(分词) **/
+    public static final String FIELD_CONTENT = "content";
+    /** 分类字段(不分词) **/
+    public static final String FIELD_CATEGORY = "category";
+
+    /** 中文词汇，以标点分隔写入，避免分词器把相邻词合并 **/
+    static final String[] CHINESE_WORDS = {
+            "中国", "北京", "上海", "经济", "技术", "数据", "城市", "教育", "发展", "市场",
+            "政府", "企业", "科学", "研究", "网络", "安全", "文化", "历史", "医疗", "健康",
+            "能源", "环境", "交通", "金融", "投资", "银行", "产品", "服务", "用户", "平台",
+            "手机", "电脑", "软件", "系统", "工程", "设计", "管理", "质量", "价格", "消费"
+    };
+
+    /** 英文词汇 **/
+    static final String[] ENGLISH_WORDS = {
+            "lucene", "search", "index", "query", "spring", "boot", "java", "server", "cloud", "cache",
+            "latency", "throughput", "segment", "merge", "commit", "reader", "writer", "score", "field", "document"
+    };
+
+    /** 分类取值 **/
+    static final String[] CATEGORIES = {"news", "blog", "forum", "wiki"};
+
+    private CorpusGenerator() {
+        throw new UnsupportedOperationException("CorpusGenerator Utility class");
+    }
+
+    /**
+     * 生成文档集合
+     * @param count 文档数量
+     * @param seed 随机种子
+     * @return 文档
+     */
+    public static List<IndexDoc> generate(int count, long seed) {
+        Random random = new Random(seed);
+        List<IndexDoc> documents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            documents.add(new IndexDoc(fields(random, i).toArray(new IndexField[0])));
+        }
+        return documents;
+    }
+
+    /**
+     * 生成单个文档字段
+     * @param random 随机数
+     * @param id 文档唯一标识
+     * @return 文档字段
+     */
+    public static List<IndexField> fields(Random random, int id) {
+        List<IndexField> fields = new ArrayList<>(4);
+        fields.add(new IndexField(FIELD_ID, String.valueOf(id), true, false));
+        fields.add(new IndexField(FIELD_TITLE, text(random, 6), true, true));
+        fields.add(new IndexField(FIELD_CONTENT, text(random, 200), true, true));
+        fields.add(new IndexField(FIELD_CATEGORY, CATEGORIES[random.nextInt(CATEGORIES.length)], true, false));
+        return fields;
+    }
+
+    private static String text(Random random, int words) {
+        StringBuilder builder = new StringBuilder(words * 4);
+        for (int i = 0; i < words; i++) {
+            if (random.nextInt(4) == 0) {
+                builder.append(' ').append(ENGLISH_WORDS[random.nextInt(ENGLISH_WORDS.length)]).append(' ');
+            } else {
+                builder.append(CHINESE_WORDS[random.nextInt(CHINESE_WORDS.length)]).append('，');
+            }
+        }
+        builder.append('。');
+        return builder.toString();
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xqlee.easylucene.benchmark;
+
+import com.xqlee.easylucene.autoconfigure.AnalyzerProvider;
+import com.xqlee.easylucene.model.SearchField;
+import com.xqlee.easylucene.model.SearchResult;
+import com.xqlee.easylucene.registry.IndexSearcherRegistry;
+import com.xqlee.easylucene.service.EasyLuceneQueryService;
+import com.xqlee.easylucene.service.EasyLuceneWriteService;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 查询服务基准测试
+ * java -jar target/benchmarks.jar QueryServiceBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {BenchmarkSupport.ADD_OPENS_NIO, BenchmarkSupport.ADD_OPENS_REF, BenchmarkSupport.ADD_OPENS_MISC})
+public class QueryServiceBenchmark {
+
+    private static final String PATHNAME = "bench-query";
+
+    /** 索引文档数量 **/
+    @Param({"50000"})
+    int docCount;
+
+    /** 深度翻页页码 **/
+    @Param({"500"})
+    int deepPage;
+
+    private final int pageSize = 10;
+
+    private Path storePath;
+    private AnnotationConfigApplicationContext context;
+    private EasyLuceneQueryService queryService;
+    private IndexSearcherRegistry indexSearcherRegistry;
+    private AnalyzerProvider analyzerProvider;
+
+    private SearchField contentField;
+    private SearchField highlightField;
+    private List<SearchField> multiFields;
+    private Query thresholdQuery;
+    private String deepPageCursor;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        storePath = BenchmarkSupport.createStorePath();
+        context = BenchmarkSupport.start(storePath, Collections.emptyMap());
+        queryService = context.getBean(EasyLuceneQueryService.class);
+        indexSearcherRegistry = context.getBean(IndexSearcherRegistry.class);
+        analyzerProvider = context.getBean(AnalyzerProvider.class);
+        EasyLuceneWriteService writeService = context.getBean(EasyLuceneWriteService.class);
+        writeService.writeIndex(CorpusGenerator.generate(docCount, CorpusGenerator.DEFAULT_SEED), PATHNAME);
+        writeService.flush(PATHNAME);
+
+        contentField = new SearchField(CorpusGenerator.FIELD_CONTENT, "技术", false, BooleanClause.Occur.MUST);
+        highlightField = new SearchField(CorpusGenerator.FIELD_CONTENT, "技术", true, BooleanClause.Occur.MUST);
+        multiFields = Arrays.asList(
+                new SearchField(CorpusGenerator.FIELD_CONTENT, "技术", false, BooleanClause.Occur.MUST),
+                new SearchField(CorpusGenerator.FIELD_TITLE, "lucene", false, BooleanClause.Occur.SHOULD),
+                new SearchField(CorpusGenerator.FIELD_CATEGORY, "news", false, true, BooleanClause.Occur.MUST));
+        thresholdQuery = new QueryParser(CorpusGenerator.FIELD_CONTENT, analyzerProvider.getAnalyzer()).parse("技术 数据");
+        // 预先翻到深度页前一页，得到游标
+        deepPageCursor = queryService.queryOneField(deepPage - 1, pageSize, contentField, PATHNAME).getCursor();
+        SearchResult probe = queryService.queryOneField(1, pageSize, contentField, PATHNAME);
+        if (probe.getTotal() < (long) deepPage * pageSize || deepPageCursor == null) {
+            throw new IllegalStateException("Corpus too small for deep page " + deepPage + ", hits " + probe.getTotal());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkSupport.stop(context, storePath);
+    }
+
+    @Benchmark
+    public SearchResult singleField() {
+        return queryService.queryOneField(1, pageSize, contentField, PATHNAME);
+    }
+
+    @Benchmark
+    public SearchResult multiField() {
+        return queryService.queryMultiField(1, pageSize, multiFields, PATHNAME);
+    }
+
+    /**
+     * 第5页，与 {@link #legacyMultiFieldPage5(Blackhole)} 对比单次收集节省的开销
+     */
+    @Benchmark
+    public SearchResult multiFieldPage5() {
+        return queryService.queryMultiField(5, pageSize, multiFields, PATHNAME);
+    }
+
+    @Benchmark
+    public SearchResult highlighted() {
+        return queryService.queryOneField(1, pageSize, highlightField, PATHNAME);
+    }
+
+    @Benchmark
+    public SearchResult deepPage() {
+        return queryService.queryOneField(deepPage, pageSize, contentField, PATHNAME);
+    }
+
+    @Benchmark
+    public SearchResult deepPageCursor() {
+        return queryService.queryOneField(deepPageCursor, pageSize, contentField, PATHNAME);
+    }
+
+    @Benchmark
+    public SearchResult threshold() {
+        return queryService.query(1, pageSize, thresholdQuery, null, 0.5f, PATHNAME);
+    }
+
+    /**
+     * 旧版多字段查询流程：试探查询 + 定位前序命中 + 正式查询，且每步重新构建 BooleanQuery
+     */
+    @Benchmark
+    public void legacyMultiFieldPage5(Blackhole blackhole) throws Exception {
+        int currentPage = 5;
+        IndexSearcher indexSearcher = indexSearcherRegistry.acquire(PATHNAME);
+        try {
+            BooleanQuery.Builder builder = new BooleanQuery.Builder();
+            for (SearchField searchField : multiFields) {
+                Query query;
+                if (searchField.isBaseQuery()) {
+                    query = new org.apache.lucene.search.TermQuery(
+                            new org.apache.lucene.index.Term(searchField.getName(), searchField.getValue()));
+                } else {
+                    query = new QueryParser(searchField.getName(), analyzerProvider.getAnalyzer()).parse(searchField.getValue());
+                }
+                builder.add(query, searchField.getOccur());
+            }
+            TopDocs probe = indexSearcher.search(builder.build(), pageSize);
+            if (probe.totalHits > 0) {
+                int num = pageSize * (currentPage - 1);
+                ScoreDoc after = indexSearcher.search(builder.build(), num).scoreDocs[num - 1];
+                TopDocs topDocs = indexSearcher.searchAfter(after, builder.build(), pageSize);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    Document doc = indexSearcher.doc(scoreDoc.doc);
+                    blackhole.consume(doc);
+                }
+                blackhole.consume(topDocs.totalHits);
+            }
+        } finally {
+            indexSearcherRegistry.release(PATHNAME, indexSearcher);
+        }
+    }
+}
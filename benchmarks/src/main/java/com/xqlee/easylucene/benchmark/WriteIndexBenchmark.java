@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xqlee.easylucene.benchmark;
+
+import com.xqlee.easylucene.model.IndexDoc;
+import com.xqlee.easylucene.service.EasyLuceneWriteService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 批量写入基准测试，每次调用写入一整批文档(写入前清空索引)
+ * java -jar target/benchmarks.jar WriteIndexBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {BenchmarkSupport.ADD_OPENS_NIO, BenchmarkSupport.ADD_OPENS_REF, BenchmarkSupport.ADD_OPENS_MISC})
+public class WriteIndexBenchmark {
+
+    private static final String PATHNAME = "bench-write";
+
+    /** 每批文档数量 **/
+    @Param({"20000"})
+    int batchSize;
+
+    /** spring.lucene.max_threads **/
+    @Param({"1", "2", "4"})
+    int maxThreads;
+
+    /** spring.lucene.ram_buffer_size **/
+    @Param({"16", "64"})
+    int ramBufferSize;
+
+    /** spring.lucene.write_mode **/
+    @Param({"merge", "concurrent"})
+    String writeMode;
+
+    private Path storePath;
+    private AnnotationConfigApplicationContext context;
+    private EasyLuceneWriteService writeService;
+    private List<IndexDoc> documents;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        storePath = BenchmarkSupport.createStorePath();
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("max_threads", maxThreads);
+        properties.put("ram_buffer_size", ramBufferSize);
+        properties.put("write_mode", writeMode);
+        context = BenchmarkSupport.start(storePath, properties);
+        writeService = context.getBean(EasyLuceneWriteService.class);
+        documents = CorpusGenerator.generate(batchSize, CorpusGenerator.DEFAULT_SEED);
+    }
+
+    @Setup(Level.Iteration)
+    public void clean() throws Exception {
+        writeService.deleteAll(PATHNAME);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkSupport.stop(context, storePath);
+    }
+
+    @Benchmark
+    public int writeIndex() throws Exception {
+        return writeService.writeIndex(documents, PATHNAME);
+    }
+}
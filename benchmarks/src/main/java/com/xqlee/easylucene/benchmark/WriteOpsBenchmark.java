@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xqlee.easylucene.benchmark;
+
+import com.xqlee.easylucene.model.IndexField;
+import com.xqlee.easylucene.service.EasyLuceneWriteService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 单文档更新/删除基准测试
+ * java -jar target/benchmarks.jar WriteOpsBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {BenchmarkSupport.ADD_OPENS_NIO, BenchmarkSupport.ADD_OPENS_REF, BenchmarkSupport.ADD_OPENS_MISC})
+public class WriteOpsBenchmark {
+
+    private static final String PATHNAME = "bench-ops";
+
+    /** 索引文档数量 **/
+    @Param({"20000"})
+    int docCount;
+
+    /** spring.lucene.commit_interval_ms，0 为逐条提交 **/
+    @Param({"0", "1000"})
+    long commitIntervalMs;
+
+    private Path storePath;
+    private AnnotationConfigApplicationContext context;
+    private EasyLuceneWriteService writeService;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        storePath = BenchmarkSupport.createStorePath();
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("commit_interval_ms", commitIntervalMs);
+        context = BenchmarkSupport.start(storePath, properties);
+        writeService = context.getBean(EasyLuceneWriteService.class);
+        writeService.writeIndex(CorpusGenerator.generate(docCount, CorpusGenerator.DEFAULT_SEED), PATHNAME);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkSupport.stop(context, storePath);
+    }
+
+    @Benchmark
+    public void update() throws Exception {
+        int id = Math.floorMod(sequence.getAndIncrement(), docCount);
+        List<IndexField> fields = CorpusGenerator.fields(new Random(id), id);
+        writeService.update(fields, CorpusGenerator.FIELD_ID, PATHNAME);
+    }
+
+    @Benchmark
+    public void delete() throws Exception {
+        int id = Math.floorMod(sequence.getAndIncrement(), docCount);
+        writeService.delete(CorpusGenerator.FIELD_ID, String.valueOf(id), PATHNAME);
+    }
+}
@@ -18,14 +18,70 @@ package com.xqlee.easylucene.autoconfigure;
 
 import org.apache.lucene.analysis.Analyzer;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
 /**
  * 抽象分词器
+ * Analyzer 线程安全(TokenStream 按线程复用)，实现类应返回同一个实例，词典与分词状态在 JVM 内只构建一次
+ * 除默认分词器外，可按名称注册可复用的分词器，见 {@link #registerAnalyzer(String, Analyzer)}
  */
 public abstract class AnalyzerProvider {
 
+    /** 名称 -> 分词器 **/
+    private final Map<String, Analyzer> namedAnalyzers = new ConcurrentHashMap<>();
+
     /**
-     * 获取分词器
+     * 获取默认分词器，应返回缓存的单例，不要每次新建
      * @return Analyzer
      */
     public abstract Analyzer getAnalyzer();
+
+    /**
+     * 按名称获取分词器
+     * @param name 分词器名称，为空时返回默认分词器
+     * @return Analyzer
+     * @throws IllegalArgumentException 名称未注册
+     */
+    public Analyzer getAnalyzer(String name) {
+        if (name == null || name.isEmpty()) {
+            return getAnalyzer();
+        }
+        Analyzer analyzer = namedAnalyzers.get(name);
+        if (analyzer == null) {
+            throw new IllegalArgumentException("Analyzer not registered: " + name);
+        }
+        return analyzer;
+    }
+
+    /**
+     * 注册命名分词器，同名覆盖
+     * @param name 分词器名称
+     * @param analyzer 分词器
+     * @return 当前提供者
+     */
+    public AnalyzerProvider registerAnalyzer(String name, Analyzer analyzer) {
+        namedAnalyzers.put(name, analyzer);
+        return this;
+    }
+
+    /**
+     * 获取命名分词器，不存在时创建并注册，保证同名只创建一次
+     * @param name 分词器名称
+     * @param factory 分词器创建方法
+     * @return Analyzer
+     */
+    public Analyzer getOrCreateAnalyzer(String name, Supplier<Analyzer> factory) {
+        return namedAnalyzers.computeIfAbsent(name, k -> factory.get());
+    }
+
+    /**
+     * 已注册的命名分词器
+     * @return 名称 -> 分词器(只读)
+     */
+    public Map<String, Analyzer> getAnalyzers() {
+        return Collections.unmodifiableMap(namedAnalyzers);
+    }
 }
@@ -26,6 +26,9 @@ import org.apache.lucene.analysis.cn.smart.SmartChineseAnalyzer;
 @Slf4j
 public class DefaultAnalyzerProvider extends AnalyzerProvider {
 
+    /** 默认无停止分词的中文分词器，全局复用 **/
+    private final Analyzer analyzer = new SmartChineseAnalyzer();
+
     /**
      * 默认无停止分词的中文分词器提供者
      */
@@ -35,7 +38,6 @@ public class DefaultAnalyzerProvider extends AnalyzerProvider {
 
     @Override
     public Analyzer getAnalyzer() {
-        // 默认无停止分词的中文分词器
-        return new SmartChineseAnalyzer();
+        return analyzer;
     }
 }
@@ -17,12 +17,33 @@
 package com.xqlee.easylucene.autoconfigure;
 
 
+import com.xqlee.easylucene.highlight.DefaultHighlighterProvider;
+import com.xqlee.easylucene.highlight.HighlighterProvider;
+import com.xqlee.easylucene.metrics.EasyLuceneMetrics;
+import com.xqlee.easylucene.metrics.MicrometerEasyLuceneMetrics;
+import com.xqlee.easylucene.metrics.NoopEasyLuceneMetrics;
+import com.xqlee.easylucene.service.EasyLuceneQueryService;
+import com.xqlee.easylucene.service.EasyLuceneWriteService;
+import com.xqlee.easylucene.service.ReactiveEasyLuceneQueryService;
+import com.xqlee.easylucene.service.ReactiveEasyLuceneWriteService;
+import com.xqlee.easylucene.service.impl.ReactiveEasyLuceneQueryServiceImpl;
+import com.xqlee.easylucene.service.impl.ReactiveEasyLuceneWriteServiceImpl;
+import com.xqlee.easylucene.store.DefaultDirectoryFactory;
+import com.xqlee.easylucene.store.DirectoryFactory;
+import com.xqlee.easylucene.warmup.DefaultIndexWarmer;
+import com.xqlee.easylucene.warmup.IndexWarmer;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * EasyLuceneAutoConfiguration 配置类
@@ -40,6 +61,88 @@ public class EasyLuceneAutoConfiguration {
         return new DefaultAnalyzerProvider();
     }
 
+    @Bean
+    @ConditionalOnMissingBean(HighlighterProvider.class)
+    public HighlighterProvider defaultHighlighterProvider(@Qualifier("easyLuceneProperties") EasyLuceneProperties easyLuceneProperties,
+                                                          AnalyzerProvider analyzerProvider){
+        return new DefaultHighlighterProvider(easyLuceneProperties, analyzerProvider);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(DirectoryFactory.class)
+    public DirectoryFactory defaultDirectoryFactory(@Qualifier("easyLuceneProperties") EasyLuceneProperties easyLuceneProperties){
+        return new DefaultDirectoryFactory(easyLuceneProperties);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(IndexWarmer.class)
+    public IndexWarmer defaultIndexWarmer(@Qualifier("easyLuceneProperties") EasyLuceneProperties easyLuceneProperties,
+                                          AnalyzerProvider analyzerProvider){
+        return new DefaultIndexWarmer(easyLuceneProperties, analyzerProvider);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(EasyLuceneMetrics.class)
+    public EasyLuceneMetrics noopEasyLuceneMetrics(){
+        return new NoopEasyLuceneMetrics();
+    }
+
+    /**
+     * Micrometer 指标配置，classpath 存在 Micrometer 且容器中有 MeterRegistry 时生效
+     */
+    @Configuration
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class MicrometerMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(EasyLuceneMetrics.class)
+        public EasyLuceneMetrics micrometerEasyLuceneMetrics(ObjectProvider<MeterRegistry> meterRegistry){
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry == null) {
+                return new NoopEasyLuceneMetrics();
+            }
+            return new MicrometerEasyLuceneMetrics(registry);
+        }
+    }
+
+    /**
+     * 响应式服务配置，classpath 存在 Reactor 时生效
+     */
+    @Configuration
+    @ConditionalOnClass(name = "reactor.core.publisher.Flux")
+    static class ReactiveConfiguration {
+
+        /**
+         * Lucene 专用有界调度器，与 Schedulers.boundedElastic() 隔离
+         */
+        @Bean(destroyMethod = "dispose")
+        @ConditionalOnMissingBean(name = "easyLuceneScheduler")
+        public Scheduler easyLuceneScheduler(@Qualifier("easyLuceneProperties") EasyLuceneProperties easyLuceneProperties){
+            int threads = easyLuceneProperties.getReactive_threads();
+            if (threads <= 0) {
+                threads = Runtime.getRuntime().availableProcessors() * 2;
+            }
+            return Schedulers.newBoundedElastic(threads, Math.max(easyLuceneProperties.getReactive_queue_capacity(), 1),
+                    "easy-lucene-reactive", 60, true);
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(ReactiveEasyLuceneQueryService.class)
+        public ReactiveEasyLuceneQueryService reactiveEasyLuceneQueryService(EasyLuceneQueryService easyLuceneQueryService,
+                                                                             @Qualifier("easyLuceneScheduler") Scheduler scheduler,
+                                                                             @Qualifier("easyLuceneProperties") EasyLuceneProperties easyLuceneProperties){
+            return new ReactiveEasyLuceneQueryServiceImpl(easyLuceneQueryService, scheduler,
+                    easyLuceneProperties.getReactive_stream_page_size());
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(ReactiveEasyLuceneWriteService.class)
+        public ReactiveEasyLuceneWriteService reactiveEasyLuceneWriteService(EasyLuceneWriteService easyLuceneWriteService,
+                                                                             @Qualifier("easyLuceneScheduler") Scheduler scheduler){
+            return new ReactiveEasyLuceneWriteServiceImpl(easyLuceneWriteService, scheduler);
+        }
+    }
+
     /**
      *  EasyLuceneAutoConfiguration 配置类初始化
      */
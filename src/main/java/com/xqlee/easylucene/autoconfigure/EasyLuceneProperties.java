@@ -21,6 +21,11 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * 索引配置属性
  */
@@ -30,11 +35,70 @@ import org.springframework.stereotype.Component;
 @ConfigurationProperties(prefix = "spring.lucene")
 public class EasyLuceneProperties {
 
+    /** 批量写入模式: 临时索引合并 **/
+    public static final String WRITE_MODE_MERGE = "merge";
+    /** 批量写入模式: 多线程并发写入共享写入器 **/
+    public static final String WRITE_MODE_CONCURRENT = "concurrent";
+
+    /** 过滤缓存策略: 按使用频率缓存 **/
+    public static final String FILTER_CACHE_POLICY_USAGE_TRACKING = "usage_tracking";
+    /** 过滤缓存策略: 总是缓存 **/
+    public static final String FILTER_CACHE_POLICY_ALWAYS = "always";
+    /** 过滤缓存策略: 不缓存 **/
+    public static final String FILTER_CACHE_POLICY_NONE = "none";
+
+    /** 高亮方式: 按字段索引时记录的偏移自动选择 **/
+    public static final String HIGHLIGHTER_AUTO = "auto";
+    /** 高亮方式: 经典高亮，重新分词 **/
+    public static final String HIGHLIGHTER_PLAIN = "plain";
+    /** 高亮方式: 词向量高亮 **/
+    public static final String HIGHLIGHTER_FAST_VECTOR = "fast_vector";
+    /** 高亮方式: 倒排偏移高亮 **/
+    public static final String HIGHLIGHTER_POSTINGS = "postings";
+
+    /** 目录类型: FSDirectory.open 按平台选择 **/
+    public static final String DIRECTORY_TYPE_FS = "fs";
+    /** 目录类型: 内存映射 **/
+    public static final String DIRECTORY_TYPE_MMAP = "mmap";
+    /** 目录类型: NIO 文件通道 **/
+    public static final String DIRECTORY_TYPE_NIOFS = "niofs";
+    /** 目录类型: 近实时小段缓存在内存，外层为 FSDirectory.open **/
+    public static final String DIRECTORY_TYPE_NRT_CACHING = "nrt_caching";
+    /** 目录类型: 堆内存，不落盘，适合测试与小型热点索引 **/
+    public static final String DIRECTORY_TYPE_RAM = "ram";
+
     /**
      * 设置索引存储目录，默认运行目录的 xqlee/lucene下面
      */
     String store_path = "xqlee/lucene";
 
+    /**
+     * 索引目录类型，默认 fs
+     * fs: 按平台选择(64位一般为 mmap)
+     * mmap / niofs / nrt_caching / ram: 见 DIRECTORY_TYPE_* 常量
+     */
+    String directory_type = DIRECTORY_TYPE_FS;
+
+    /**
+     * 按路径指定索引目录类型，未指定的路径使用 directory_type
+     */
+    Map<String, String> directory_types = new HashMap<>();
+
+    /**
+     * mmap 目录打开文件时是否预加载到物理内存，默认false
+     */
+    boolean mmap_preload = false;
+
+    /**
+     * nrt_caching 目录: 预计合并后小于该大小(MB)的新段缓存在内存，默认5
+     */
+    double nrt_cache_max_merge_size_mb = 5;
+
+    /**
+     * nrt_caching 目录: 内存缓存总大小上限(MB)，默认60
+     */
+    double nrt_cache_max_cached_mb = 60;
+
     /**
      * 处理任务开启最大线程数量，默认2
      * 数量因根据cpu数量、硬盘io性能自行调整
@@ -46,4 +110,245 @@ public class EasyLuceneProperties {
      * 批量写入建议 32MB 起步
      */
     int ram_buffer_size = 16;
+
+    /**
+     * 批量写入(writeIndex)模式，默认 merge
+     * merge: 各线程写入独立临时索引后合并到主索引，支持字段独立分词器
+     * concurrent: 各线程直接并发写入共享写入器，省去临时索引与合并拷贝，使用默认分词器，含字段独立分词器的批次使用 merge 写入
+     */
+    String write_mode = WRITE_MODE_MERGE;
+
+    /**
+     * 合并策略(TieredMergePolicy): 合并后单个段最大大小(MB)，默认5120
+     */
+    double merge_max_merged_segment_mb = 5120;
+
+    /**
+     * 合并策略: 每层允许的段数，默认10，越小段越少、合并越频繁
+     */
+    double merge_segments_per_tier = 10;
+
+    /**
+     * 合并策略: 普通合并一次最多合并的段数，默认10
+     */
+    int merge_max_merge_at_once = 10;
+
+    /**
+     * 合并策略: 小于该大小(MB)的段按该大小计算，默认2
+     */
+    double merge_floor_segment_mb = 2;
+
+    /**
+     * 段内删除文档占比(%)达到该值才回收，默认10
+     * 同时作为定时维护任务触发回收的索引删除文档占比
+     */
+    double merge_deletes_pct_allowed = 10;
+
+    /**
+     * 合并线程数(ConcurrentMergeScheduler)，默认0(按CPU核数与磁盘类型自动选择)
+     */
+    int merge_max_threads = 0;
+
+    /**
+     * 最多排队合并数，超过时阻塞写入线程，默认0(合并线程数+5)
+     */
+    int merge_max_merge_count = 0;
+
+    /**
+     * 合并IO自动限速，默认true，写入压力小时降低合并速度
+     */
+    boolean merge_auto_io_throttle = true;
+
+    /**
+     * 强制合并(expungeDeletes/optimize)最大速度(MB/s)，默认0不限速
+     */
+    double merge_force_mb_per_sec = 0;
+
+    /**
+     * 合并线程使用低优先级，默认true
+     */
+    boolean merge_low_priority = true;
+
+    /**
+     * 索引维护检查间隔(毫秒)，默认0关闭
+     * 大于0时定时检查已打开的写入器，删除文档占比达到 merge_deletes_pct_allowed 时后台回收
+     */
+    long maintenance_interval_ms = 0;
+
+    /**
+     * 流式写入每块文档数，默认1000
+     * 流式写入时同时在内存中的文档数不超过 块大小 * (max_threads + 1)
+     */
+    int stream_chunk_size = 1000;
+
+    /**
+     * 查询器后台刷新间隔(毫秒)，默认1000ms
+     * 小于等于0时关闭后台刷新，改为每次查询前检查刷新
+     */
+    long refresh_interval_ms = 1000;
+
+    /**
+     * 组提交间隔(毫秒)，默认0
+     * 大于0时更新/删除操作不再逐条提交，按该间隔合并提交
+     */
+    long commit_interval_ms = 0;
+
+    /**
+     * 组提交待提交操作数阈值，默认0
+     * 大于0时待提交操作数达到该值立即触发一次提交
+     * 未达阈值的变更仍按 commit_interval_ms 定时提交，commit_interval_ms 小于等于0时使用默认间隔1000毫秒
+     * commit_interval_ms 与 commit_max_pending_ops 均小于等于0时每次操作立即提交
+     */
+    long commit_max_pending_ops = 0;
+
+    /**
+     * 异步写入线程数，默认0(取CPU核数)
+     */
+    int ingest_threads = 0;
+
+    /**
+     * 异步写入队列容量(待处理请求数)，默认1024
+     */
+    int ingest_queue_capacity = 1024;
+
+    /**
+     * 异步写入合并批次大小(文档数)，默认5000
+     * 写入线程从队列中合并多个请求，累计不超过该数量后一次写入
+     */
+    int ingest_batch_size = 5000;
+
+    /**
+     * 异步写入队列已满时的处理策略，默认 block
+     * block: 阻塞等待队列空位(最长 ingest_offer_timeout_ms)，超时拒绝
+     * abort: 立即拒绝，返回异常完成的 CompletableFuture
+     * caller_runs: 由调用线程直接写入
+     */
+    String ingest_rejection_policy = "block";
+
+    /**
+     * block 策略等待队列空位的最长时间(毫秒)，默认0(一直等待)
+     */
+    long ingest_offer_timeout_ms = 0;
+
+    /**
+     * 并行查询线程数，默认0(不并行)
+     * 大于0时查询器按段分组切片，由共用的有界线程池并行检索各切片后合并结果
+     */
+    int search_threads = 0;
+
+    /**
+     * 并行查询线程池队列容量(待执行切片数)，默认1024，队列满时由查询线程自行执行
+     */
+    int search_queue_capacity = 1024;
+
+    /**
+     * 开启并行查询的路径，默认为空(search_threads 大于0时全部路径)
+     */
+    List<String> search_parallel_paths = new ArrayList<>();
+
+    /**
+     * 并行查询切片文档数，默认250000
+     * 相邻段累计文档数达到该值或段数达到 search_slice_max_segments 时开始新切片
+     */
+    int search_slice_docs = 250000;
+
+    /**
+     * 并行查询每个切片最多段数，默认5
+     */
+    int search_slice_max_segments = 5;
+
+    /**
+     * 查询结果缓存容量(缓存的查询页数)，默认0(不缓存)
+     * 缓存按索引版本失效，索引刷新后旧结果不再返回
+     */
+    int query_cache_size = 0;
+
+    /**
+     * 查询结果缓存过期时间(毫秒)，默认60000，小于等于0不过期(仅按容量与索引版本失效)
+     */
+    long query_cache_ttl_ms = 60000;
+
+    /**
+     * 过滤缓存策略，默认 usage_tracking，所有路径的查询器共用一个过滤缓存
+     * 过滤缓存按段缓存不参与评分子句(FILTER/MUST_NOT、按字段排序时的整个查询)的匹配文档集合
+     * usage_tracking: 最近多次使用的过滤条件才缓存
+     * always: 全部缓存
+     * none: 不缓存
+     */
+    String filter_cache_policy = FILTER_CACHE_POLICY_USAGE_TRACKING;
+
+    /**
+     * 过滤缓存最多缓存的查询数，默认1000
+     */
+    int filter_cache_max_queries = 1000;
+
+    /**
+     * 过滤缓存最大内存(MB)，默认32
+     */
+    int filter_cache_max_ram_mb = 32;
+
+    /**
+     * usage_tracking 策略: 段文档数达到该值才缓存，默认10000
+     */
+    int filter_cache_min_segment_docs = 10000;
+
+    /**
+     * usage_tracking 策略: 段文档数占索引总文档数比例达到该值才缓存，默认0.03
+     */
+    float filter_cache_min_segment_ratio = 0.03f;
+
+    /**
+     * 响应式服务调度器最大线程数，默认0(CPU核数 * 2)
+     */
+    int reactive_threads = 0;
+
+    /**
+     * 响应式服务调度器每个线程最多排队任务数，默认1024
+     */
+    int reactive_queue_capacity = 1024;
+
+    /**
+     * 响应式流式查询每页文档数，默认100
+     */
+    int reactive_stream_page_size = 100;
+
+    /**
+     * 预热的路径，默认为空(不预热)
+     * 应用启动时打开这些路径的查询器，每次刷新后新查询器预热完成才对查询可见
+     */
+    List<String> warmup_paths = new ArrayList<>();
+
+    /**
+     * 预热查询，classic QueryParser 语法(字段名:值)，使用默认分词器解析
+     */
+    List<String> warmup_queries = new ArrayList<>();
+
+    /**
+     * 预热排序，格式同 SearchSort.parse，如 created:date:desc,price:double
+     * 按该排序遍历全部文档，加载排序字段的 DocValues
+     */
+    String warmup_sorts;
+
+    /**
+     * 高亮方式，默认 auto
+     * auto: 字段写入了词向量用 fast_vector，倒排记录了偏移用 postings，否则 plain
+     * plain: 对字段值重新分词高亮
+     * fast_vector / postings: 字段未记录对应偏移时退回 plain
+     */
+    String highlighter = HIGHLIGHTER_AUTO;
+
+    /**
+     * 高亮时每个字段值最多分析字符数，默认51200
+     */
+    int highlight_max_analyzed_chars = 51200;
+
+    /**
+     * 每个高亮字段返回的片段数，默认1，多个片段以 ... 连接
+     */
+    int highlight_fragments = 1;
+
+    /**
+     * 高亮片段长度(字符)，默认100
+     */
+    int highlight_fragment_size = 100;
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xqlee.easylucene.highlight;
+
+import com.xqlee.easylucene.autoconfigure.AnalyzerProvider;
+import com.xqlee.easylucene.autoconfigure.EasyLuceneProperties;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.MultiFields;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 默认高亮器提供者
+ * 按 highlighter 配置与字段索引时记录的偏移为每个字段选择高亮方式，字段未记录所需偏移时退回经典高亮
+ * 经典高亮按字段使用解析查询时的命名分词器重新分词，保证高亮词项与查询词项一致
+ */
+public class DefaultHighlighterProvider implements HighlighterProvider {
+
+    private final EasyLuceneProperties easyLuceneProperties;
+    private final AnalyzerProvider analyzerProvider;
+
+    public DefaultHighlighterProvider(EasyLuceneProperties easyLuceneProperties, AnalyzerProvider analyzerProvider) {
+        this.easyLuceneProperties = easyLuceneProperties;
+        this.analyzerProvider = analyzerProvider;
+    }
+
+    @Override
+    public QueryHighlighter create(IndexSearcher indexSearcher, Query query, Set<String> fields, ScoreDoc[] scoreDocs)
+            throws IOException {
+        Map<String, String> fieldAnalyzers = new HashMap<>();
+        for (String field : fields) {
+            fieldAnalyzers.put(field, null);
+        }
+        return create(indexSearcher, query, fieldAnalyzers, scoreDocs);
+    }
+
+    @Override
+    public QueryHighlighter create(IndexSearcher indexSearcher, Query query, Map<String, String> fieldAnalyzers,
+                                   ScoreDoc[] scoreDocs) throws IOException {
+        String mode = easyLuceneProperties.getHighlighter();
+        FieldInfos fieldInfos = EasyLuceneProperties.HIGHLIGHTER_PLAIN.equalsIgnoreCase(mode)
+                ? null : MultiFields.getMergedFieldInfos(indexSearcher.getIndexReader());
+        Map<String, String> fieldModes = new HashMap<>();
+        Map<String, Analyzer> analyzers = new HashMap<>();
+        for (Map.Entry<String, String> entry : fieldAnalyzers.entrySet()) {
+            String field = entry.getKey();
+            fieldModes.put(field, resolve(mode, fieldInfos == null ? null : fieldInfos.fieldInfo(field)));
+            if (entry.getValue() != null && !entry.getValue().isEmpty()) {
+                analyzers.put(field, analyzerProvider.getAnalyzer(entry.getValue()));
+            }
+        }
+        Analyzer analyzer = analyzers.isEmpty() ? analyzerProvider.getAnalyzer()
+                : new PerFieldAnalyzerWrapper(analyzerProvider.getAnalyzer(), analyzers);
+        return new PerFieldHighlighter(indexSearcher, query, scoreDocs, fieldModes, analyzer);
+    }
+
+    private String resolve(String mode, FieldInfo fieldInfo) {
+        if (fieldInfo == null) {
+            return EasyLuceneProperties.HIGHLIGHTER_PLAIN;
+        }
+        boolean vectors = fieldInfo.hasVectors();
+        boolean offsets = fieldInfo.getIndexOptions().compareTo(IndexOptions.DOCS_AND_FREQS_AND_POSITIONS_AND_OFFSETS) >= 0;
+        if (vectors && (EasyLuceneProperties.HIGHLIGHTER_FAST_VECTOR.equalsIgnoreCase(mode)
+                || EasyLuceneProperties.HIGHLIGHTER_AUTO.equalsIgnoreCase(mode))) {
+            return EasyLuceneProperties.HIGHLIGHTER_FAST_VECTOR;
+        }
+        if (offsets && (EasyLuceneProperties.HIGHLIGHTER_POSTINGS.equalsIgnoreCase(mode)
+                || EasyLuceneProperties.HIGHLIGHTER_AUTO.equalsIgnoreCase(mode))) {
+            return EasyLuceneProperties.HIGHLIGHTER_POSTINGS;
+        }
+        return EasyLuceneProperties.HIGHLIGHTER_PLAIN;
+    }
+
+    /**
+     * 按字段分派，各方式的高亮器在首次使用时创建，同一查询内复用
+     */
+    private class PerFieldHighlighter implements QueryHighlighter {
+
+        private final IndexSearcher indexSearcher;
+        private final Query query;
+        private final ScoreDoc[] scoreDocs;
+        private final Map<String, String> fieldModes;
+        /** 经典高亮使用的分词器(按字段区分命名分词器) **/
+        private final Analyzer analyzer;
+        private final Map<String, QueryHighlighter> highlighters = new HashMap<>();
+
+        private PerFieldHighlighter(IndexSearcher indexSearcher, Query query, ScoreDoc[] scoreDocs,
+                                    Map<String, String> fieldModes, Analyzer analyzer) {
+            this.indexSearcher = indexSearcher;
+            this.query = query;
+            this.scoreDocs = scoreDocs;
+            this.fieldModes = fieldModes;
+            this.analyzer = analyzer;
+        }
+
+        @Override
+        public String highlight(int doc, String field, String value) throws IOException {
+            String mode = fieldModes.getOrDefault(field, EasyLuceneProperties.HIGHLIGHTER_PLAIN);
+            QueryHighlighter highlighter = highlighters.get(mode);
+            if (highlighter == null) {
+                highlighter = newHighlighter(mode);
+                highlighters.put(mode, highlighter);
+            }
+            return highlighter.highlight(doc, field, value);
+        }
+
+        private QueryHighlighter newHighlighter(String mode) throws IOException {
+            int fragments = easyLuceneProperties.getHighlight_fragments();
+            int fragmentSize = easyLuceneProperties.getHighlight_fragment_size();
+            int maxAnalyzedChars = easyLuceneProperties.getHighlight_max_analyzed_chars();
+            if (EasyLuceneProperties.HIGHLIGHTER_FAST_VECTOR.equals(mode)) {
+                return new FastVectorQueryHighlighter(indexSearcher.getIndexReader(), query, fragments, fragmentSize);
+            }
+            if (EasyLuceneProperties.HIGHLIGHTER_POSTINGS.equals(mode)) {
+                return new PostingsQueryHighlighter(indexSearcher, query, scoreDocs, maxAnalyzedChars, fragments);
+            }
+            return new PlainQueryHighlighter(query, analyzer, maxAnalyzedChars, fragments,
+                    fragmentSize);
+        }
+    }
+}
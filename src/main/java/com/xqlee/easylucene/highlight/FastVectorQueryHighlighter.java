@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xqlee.easylucene.highlight;
+
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.vectorhighlight.FastVectorHighlighter;
+import org.apache.lucene.search.vectorhighlight.FieldQuery;
+import org.apache.lucene.search.vectorhighlight.ScoreOrderFragmentsBuilder;
+import org.apache.lucene.search.vectorhighlight.SimpleFragListBuilder;
+
+import java.io.IOException;
+
+/**
+ * 词向量高亮(FastVectorHighlighter)，直接使用索引时写入的词向量偏移，不再重新分词
+ * 字段需以 {@link com.xqlee.easylucene.model.HighlightOffsets#TERM_VECTORS} 写入
+ */
+public class FastVectorQueryHighlighter implements QueryHighlighter {
+
+    /** SimpleFragListBuilder 允许的最小片段长度 **/
+    private static final int MIN_FRAGMENT_SIZE = 18;
+
+    private final IndexReader indexReader;
+    private final FastVectorHighlighter highlighter;
+    private final FieldQuery fieldQuery;
+    private final ValueFragmentsBuilder fragmentsBuilder = new ValueFragmentsBuilder();
+    private final int fragments;
+    private final int fragmentSize;
+
+    /**
+     * @param indexReader 当前查询器的索引
+     * @param query 查询(只解析一次，同一查询的所有文档复用)
+     * @param fragments 返回片段数
+     * @param fragmentSize 片段长度(字符)
+     * @throws IOException 改写查询失败
+     */
+    public FastVectorQueryHighlighter(IndexReader indexReader, Query query, int fragments, int fragmentSize)
+            throws IOException {
+        this.indexReader = indexReader;
+        this.highlighter = new FastVectorHighlighter(true, true, new SimpleFragListBuilder(), fragmentsBuilder);
+        this.fieldQuery = highlighter.getFieldQuery(query, indexReader);
+        this.fragments = Math.max(fragments, 1);
+        this.fragmentSize = Math.max(fragmentSize, MIN_FRAGMENT_SIZE);
+    }
+
+    @Override
+    public String highlight(int doc, String field, String value) throws IOException {
+        fragmentsBuilder.value = value;
+        String[] bestFragments = highlighter.getBestFragments(fieldQuery, indexReader, doc, field, fragmentSize, fragments);
+        if (bestFragments == null || bestFragments.length == 0) {
+            return null;
+        }
+        return String.join(ELLIPSIS, bestFragments);
+    }
+
+    /**
+     * 片段取自已读取的字段值，不再重复读取存储文档
+     */
+    private static class ValueFragmentsBuilder extends ScoreOrderFragmentsBuilder {
+
+        private String value;
+
+        private ValueFragmentsBuilder() {
+            super(new String[]{PRE_TAG}, new String[]{POST_TAG});
+        }
+
+        @Override
+        protected Field[] getFields(IndexReader reader, int docId, String fieldName) {
+            return new Field[]{new Field(fieldName, value, TextField.TYPE_STORED)};
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xqlee.easylucene.highlight;
+
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 高亮器提供者
+ * 每次查询创建一个 {@link QueryHighlighter}，查询解析、词项提取等只做一次；可注册自定义实现替换默认实现
+ */
+public interface HighlighterProvider {
+
+    /**
+     * 创建单次查询的高亮器
+     * @param indexSearcher 当前查询器
+     * @param query 查询
+     * @param fields 高亮字段
+     * @param scoreDocs 当前页命中文档
+     * @return 高亮器
+     * @throws IOException 读取索引失败
+     */
+    QueryHighlighter create(IndexSearcher indexSearcher, Query query, Set<String> fields, ScoreDoc[] scoreDocs)
+            throws IOException;
+
+    /**
+     * 创建单次查询的高亮器，需要重新分词的高亮方式按字段使用解析查询时的命名分词器
+     * 默认忽略分词器名称，见 {@link #create(IndexSearcher, Query, Set, ScoreDoc[])}
+     * @param indexSearcher 当前查询器
+     * @param query 查询
+     * @param fieldAnalyzers 高亮字段 -&gt; 分词器名称(见 AnalyzerProvider#registerAnalyzer)，为空使用默认分词器
+     * @param scoreDocs 当前页命中文档
+     * @return 高亮器
+     * @throws IOException 读取索引失败
+     */
+    default QueryHighlighter create(IndexSearcher indexSearcher, Query query, Map<String, String> fieldAnalyzers,
+                                    ScoreDoc[] scoreDocs) throws IOException {
+        return create(indexSearcher, query, fieldAnalyzers.keySet(), scoreDocs);
+    }
+}
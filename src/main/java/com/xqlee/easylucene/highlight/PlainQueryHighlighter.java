@@ -0,0 +1,64 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xqlee.easylucene.highlight;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.highlight.Highlighter;
+import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
+import org.apache.lucene.search.highlight.QueryScorer;
+import org.apache.lucene.search.highlight.SimpleHTMLFormatter;
+import org.apache.lucene.search.highlight.SimpleSpanFragmenter;
+
+import java.io.IOException;
+
+/**
+ * 经典高亮，对字段值重新分词后打分，无需索引时记录偏移
+ */
+public class PlainQueryHighlighter implements QueryHighlighter {
+
+    private final Highlighter highlighter;
+    private final Analyzer analyzer;
+    private final int fragments;
+
+    /**
+     * @param query 查询
+     * @param analyzer 分词器
+     * @param maxAnalyzedChars 每个字段值最多分析字符数
+     * @param fragments 返回片段数
+     * @param fragmentSize 片段长度(字符)
+     */
+    public PlainQueryHighlighter(Query query, Analyzer analyzer, int maxAnalyzedChars, int fragments, int fragmentSize) {
+        QueryScorer queryScorer = new QueryScorer(query);
+        this.highlighter = new Highlighter(new SimpleHTMLFormatter(PRE_TAG, POST_TAG), queryScorer);
+        this.highlighter.setTextFragmenter(new SimpleSpanFragmenter(queryScorer, fragmentSize));
+        this.highlighter.setMaxDocCharsToAnalyze(maxAnalyzedChars);
+        this.analyzer = analyzer;
+        this.fragments = Math.max(fragments, 1);
+    }
+
+    @Override
+    public String highlight(int doc, String field, String value) throws IOException {
+        TokenStream tokenStream = analyzer.tokenStream(field, value);
+        try {
+            return highlighter.getBestFragments(tokenStream, value, fragments, ELLIPSIS);
+        } catch (InvalidTokenOffsetsException e) {
+            throw new IOException(e);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xqlee.easylucene.highlight;
+
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.postingshighlight.DefaultPassageFormatter;
+import org.apache.lucene.search.postingshighlight.Passage;
+import org.apache.lucene.search.postingshighlight.PassageFormatter;
+import org.apache.lucene.search.postingshighlight.PostingsHighlighter;
+
+import java.io.IOException;
+import java.text.BreakIterator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 倒排偏移高亮(PostingsHighlighter)，直接使用倒排中的偏移，不再重新分词
+ * 字段需以 {@link com.xqlee.easylucene.model.HighlightOffsets#POSTINGS} 写入；首次高亮某字段时一次处理当前页全部文档
+ */
+public class PostingsQueryHighlighter implements QueryHighlighter {
+
+    private final IndexSearcher indexSearcher;
+    private final Query query;
+    private final int[] docs;
+    private final int fragments;
+    private final PostingsHighlighter highlighter;
+    /** 字段 -> 文档号 -> 高亮结果 **/
+    private final Map<String, Map<Integer, String>> highlights = new HashMap<>();
+
+    /**
+     * @param indexSearcher 当前查询器
+     * @param query 查询
+     * @param scoreDocs 当前页命中文档
+     * @param maxAnalyzedChars 每个字段值最多处理字符数
+     * @param fragments 返回片段(句子)数
+     */
+    public PostingsQueryHighlighter(IndexSearcher indexSearcher, Query query, ScoreDoc[] scoreDocs,
+                                    int maxAnalyzedChars, int fragments) {
+        this.indexSearcher = indexSearcher;
+        this.query = query;
+        this.docs = new int[scoreDocs.length];
+        for (int i = 0; i < scoreDocs.length; i++) {
+            docs[i] = scoreDocs[i].doc;
+        }
+        this.fragments = Math.max(fragments, 1);
+        this.highlighter = new PostingsHighlighter(maxAnalyzedChars) {
+            private final PassageFormatter formatter = new DefaultPassageFormatter(PRE_TAG, POST_TAG, ELLIPSIS, false);
+
+            @Override
+            protected PassageFormatter getFormatter(String field) {
+                return formatter;
+            }
+
+            @Override
+            protected Passage[] getEmptyHighlight(String fieldName, BreakIterator bi, int maxPassages) {
+                // 没有命中时不返回开头片段，由调用方决定是否返回原值
+                return new Passage[0];
+            }
+        };
+    }
+
+    @Override
+    public String highlight(int doc, String field, String value) throws IOException {
+        Map<Integer, String> fieldHighlights = highlights.get(field);
+        if (fieldHighlights == null) {
+            String[] values = highlighter.highlightFields(new String[]{field}, query, indexSearcher, docs,
+                    new int[]{fragments}).get(field);
+            fieldHighlights = new HashMap<>();
+            for (int i = 0; i < docs.length; i++) {
+                fieldHighlights.put(docs[i], values[i]);
+            }
+            highlights.put(field, fieldHighlights);
+        }
+        return fieldHighlights.get(doc);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xqlee.easylucene.highlight;
+
+import java.io.IOException;
+
+/**
+ * 单次查询的高亮器
+ * 由 {@link HighlighterProvider} 按查询创建，同一查询的所有命中文档复用，非线程安全
+ */
+public interface QueryHighlighter {
+
+    /** 高亮前缀 **/
+    String PRE_TAG = "<B>";
+    /** 高亮后缀 **/
+    String POST_TAG = "</B>";
+    /** 多个片段之间的分隔 **/
+    String ELLIPSIS = "...";
+
+    /**
+     * 高亮字段值
+     * @param doc 文档号(查询器全局文档号)
+     * @param field 字段名称
+     * @param value 字段存储值
+     * @return 高亮片段，没有命中时返回空或空字符串
+     * @throws IOException 读取索引失败
+     */
+    String highlight(int doc, String field, String value) throws IOException;
+}
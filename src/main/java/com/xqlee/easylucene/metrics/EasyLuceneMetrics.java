@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xqlee.easylucene.metrics;
+
+import java.util.function.Supplier;
+
+/**
+ * 指标记录
+ * 默认实现 {@link NoopEasyLuceneMetrics} 不做任何记录；存在 Micrometer MeterRegistry 时自动使用 {@link MicrometerEasyLuceneMetrics}
+ */
+public interface EasyLuceneMetrics {
+
+    /** 查询阶段：获取查询器 **/
+    String PHASE_ACQUIRE = "acquire";
+    /** 查询阶段：检索收集 **/
+    String PHASE_SEARCH = "search";
+    /** 查询阶段：读取存储字段 **/
+    String PHASE_FETCH = "fetch";
+    /** 查询阶段：高亮 **/
+    String PHASE_HIGHLIGHT = "highlight";
+
+    /**
+     * 记录查询阶段耗时
+     * @param pathname 存入时候的路径
+     * @param phase 查询阶段
+     * @param nanos 耗时(纳秒)
+     */
+    void recordQueryPhase(String pathname, String phase, long nanos);
+
+    /**
+     * 记录查询结果缓存命中
+     * @param pathname 存入时候的路径
+     * @param hit 是否命中
+     */
+    void recordQueryCache(String pathname, boolean hit);
+
+    /**
+     * 记录写入操作
+     * @param pathname 存入时候的路径
+     * @param operation 操作名称，如 writeIndex、update、delete
+     * @param docs 涉及文档数量
+     * @param nanos 耗时(纳秒)
+     */
+    void recordWrite(String pathname, String operation, long docs, long nanos);
+
+    /**
+     * 记录提交耗时
+     * @param pathname 存入时候的路径
+     * @param nanos 耗时(纳秒)
+     */
+    void recordCommit(String pathname, long nanos);
+
+    /**
+     * 记录合并耗时
+     * @param pathname 存入时候的路径
+     * @param nanos 耗时(纳秒)
+     */
+    void recordMerge(String pathname, long nanos);
+
+    /**
+     * 记录查询器刷新
+     * @param pathname 存入时候的路径
+     * @param nanos 刷新耗时(纳秒)
+     * @param lagNanos 变更写入到对查询可见的延迟(纳秒)，未知时小于0
+     */
+    void recordRefresh(String pathname, long nanos, long lagNanos);
+
+    /**
+     * 注册段数量指标
+     * @param pathname 存入时候的路径
+     * @param segmentCount 当前段数量
+     */
+    void bindSegmentCount(String pathname, Supplier<Number> segmentCount);
+}
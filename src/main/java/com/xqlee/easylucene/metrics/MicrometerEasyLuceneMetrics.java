@@ -0,0 +1,151 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xqlee.easylucene.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Micrometer 指标记录，所有指标均带 index(存入时候的路径，联合查询为 multi) 标签，指标按名称与标签缓存
+ * <ul>
+ *     <li>easy.lucene.query 查询各阶段耗时，phase 标签: acquire/search/fetch/highlight</li>
+ *     <li>easy.lucene.query.cache 查询结果缓存请求数，result 标签: hit/miss</li>
+ *     <li>easy.lucene.write 写入耗时 / easy.lucene.write.docs 写入文档数，operation 标签</li>
+ *     <li>easy.lucene.commit 提交耗时</li>
+ *     <li>easy.lucene.merge 合并耗时(含后台合并线程的每次合并)</li>
+ *     <li>easy.lucene.refresh 查询器刷新耗时 / easy.lucene.refresh.lag 变更到可见的延迟</li>
+ *     <li>easy.lucene.segments 当前段数量</li>
+ * </ul>
+ */
+@Slf4j
+public class MicrometerEasyLuceneMetrics implements EasyLuceneMetrics {
+
+    private static final String TAG_INDEX = "index";
+    /** 联合查询的 index 标签值 **/
+    private static final String INDEX_MULTI = "multi";
+
+    private final MeterRegistry meterRegistry;
+
+    /** 已注册的计时器/计数器 **/
+    private final Map<MeterKey, Meter> meters = new ConcurrentHashMap<>();
+
+    /** 已注册段数量指标的路径，指标按路径只注册一次，数据源可替换 **/
+    private final Map<String, Supplier<Number>> segmentSources = new ConcurrentHashMap<>();
+    private final Set<String> segmentGauges = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 构造 Micrometer 指标记录
+     * @param meterRegistry 指标注册中心
+     */
+    public MicrometerEasyLuceneMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        log.info("MicrometerEasyLuceneMetrics initialized successfully !");
+    }
+
+    @Override
+    public void recordQueryPhase(String pathname, String phase, long nanos) {
+        timer("easy.lucene.query", pathname, "phase", phase).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordQueryCache(String pathname, boolean hit) {
+        counter("easy.lucene.query.cache", pathname, "result", hit ? "hit" : "miss").increment();
+    }
+
+    @Override
+    public void recordWrite(String pathname, String operation, long docs, long nanos) {
+        timer("easy.lucene.write", pathname, "operation", operation).record(nanos, TimeUnit.NANOSECONDS);
+        counter("easy.lucene.write.docs", pathname, "operation", operation).increment(docs);
+    }
+
+    @Override
+    public void recordCommit(String pathname, long nanos) {
+        timer("easy.lucene.commit", pathname, null, null).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordMerge(String pathname, long nanos) {
+        timer("easy.lucene.merge", pathname, null, null).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordRefresh(String pathname, long nanos, long lagNanos) {
+        timer("easy.lucene.refresh", pathname, null, null).record(nanos, TimeUnit.NANOSECONDS);
+        if (lagNanos >= 0) {
+            timer("easy.lucene.refresh.lag", pathname, null, null).record(lagNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void bindSegmentCount(String pathname, Supplier<Number> segmentCount) {
+        segmentSources.put(pathname, segmentCount);
+        if (segmentGauges.add(pathname)) {
+            Gauge.builder("easy.lucene.segments", () -> {
+                        Supplier<Number> source = segmentSources.get(pathname);
+                        return source == null ? null : source.get();
+                    })
+                    .tag(TAG_INDEX, pathname)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 获取计时器，按名称与标签缓存，避免每次记录都构建并查找注册中心
+     */
+    private Timer timer(String name, String pathname, String tagKey, String tagValue) {
+        return (Timer) meters.computeIfAbsent(new MeterKey(name, indexTag(pathname), tagValue), key -> {
+            Timer.Builder builder = Timer.builder(name).tag(TAG_INDEX, key.getIndex());
+            if (tagKey != null) {
+                builder.tag(tagKey, tagValue);
+            }
+            return builder.register(meterRegistry);
+        });
+    }
+
+    /**
+     * 获取计数器，按名称与标签缓存
+     */
+    private Counter counter(String name, String pathname, String tagKey, String tagValue) {
+        return (Counter) meters.computeIfAbsent(new MeterKey(name, indexTag(pathname), tagValue),
+                key -> Counter.builder(name).tag(TAG_INDEX, key.getIndex()).tag(tagKey, tagValue).register(meterRegistry));
+    }
+
+    /**
+     * 联合查询的路径组合记为 multi，避免标签取值无限增长
+     */
+    private static String indexTag(String pathname) {
+        return pathname.indexOf(',') >= 0 ? INDEX_MULTI : pathname;
+    }
+
+    @Value
+    private static class MeterKey {
+        String name;
+        String index;
+        String tag;
+    }
+}
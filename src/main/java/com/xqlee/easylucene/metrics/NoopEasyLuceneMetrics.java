@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xqlee.easylucene.metrics;
+
+import java.util.function.Supplier;
+
+/**
+ * 空指标记录，未引入 Micrometer 时使用
+ */
+public class NoopEasyLuceneMetrics implements EasyLuceneMetrics {
+
+    @Override
+    public void recordQueryPhase(String pathname, String phase, long nanos) {
+    }
+
+    @Override
+    public void recordQueryCache(String pathname, boolean hit) {
+    }
+
+    @Override
+    public void recordWrite(String pathname, String operation, long docs, long nanos) {
+    }
+
+    @Override
+    public void recordCommit(String pathname, long nanos) {
+    }
+
+    @Override
+    public void recordMerge(String pathname, long nanos) {
+    }
+
+    @Override
+    public void recordRefresh(String pathname, long nanos, long lagNanos) {
+    }
+
+    @Override
+    public void bindSegmentCount(String pathname, Supplier<Number> segmentCount) {
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.xqlee.easylucene.model;
+
+import lombok.Data;
+
+/**
+ * 批量更新/删除结果
+ * 文档数取自写入器，批次结束时统一提交一次，numDocs 为提交后的有效文档数
+ */
+@Data
+public class BatchResult {
+
+    /**
+     * 操作名称(updateAll / deleteByIds / deleteByQuery)
+     */
+    String operation;
+    /**
+     * 提交的文档数或标识数
+     */
+    int requested;
+    /**
+     * 写入的文档数，删除操作为0
+     */
+    int added;
+    /**
+     * 被删除或替换的文档数(批次前后有效文档数之差，同一路径并发写入时包含其他写入的变化)
+     */
+    int deleted;
+    /**
+     * 提交后的有效文档数
+     */
+    int numDocs;
+    /**
+     * 耗时(毫秒)
+     */
+    long costMillis;
+}
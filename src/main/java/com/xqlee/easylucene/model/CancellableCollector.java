@@ -0,0 +1,67 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.xqlee.easylucene.model;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.*;
+
+import java.io.IOException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 可取消的收集器
+ * 每个段开始及段内每收集 {@link #CHECK_INTERVAL} 个文档检查一次取消状态，已取消时结束收集(剩余段直接跳过)
+ * 通过协作方式停止，不中断查询线程(NIOFSDirectory 读取时线程被中断会关闭共享的文件通道)
+ */
+public class CancellableCollector extends FilterCollector {
+
+    /** 段内检查间隔(文档数) **/
+    private static final int CHECK_INTERVAL = 1024;
+
+    private final BooleanSupplier cancelled;
+
+    /**
+     * 构造函数
+     *
+     * @param in        内部 Collector
+     * @param cancelled 取消状态
+     */
+    public CancellableCollector(Collector in, BooleanSupplier cancelled) {
+        super(in);
+        this.cancelled = cancelled;
+    }
+
+    @Override
+    public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+        if (cancelled.getAsBoolean()) {
+            throw new CollectionTerminatedException();
+        }
+        return new FilterLeafCollector(super.getLeafCollector(context)) {
+
+            private int collected;
+
+            @Override
+            public void collect(int doc) throws IOException {
+                if (++collected % CHECK_INTERVAL == 0 && cancelled.getAsBoolean()) {
+                    throw new CollectionTerminatedException();
+                }
+                super.collect(doc);
+            }
+        };
+    }
+}
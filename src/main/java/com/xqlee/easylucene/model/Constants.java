@@ -31,4 +31,6 @@ public class Constants {
     public final static String Field_IsStore = "store";
     /** 是否解析 **/
     public final static String Field_IsAnalyzer = "analysis";
+    /** 多索引联合查询结果中文档所在的路径 **/
+    public final static String Field_Index = "_index";
 }
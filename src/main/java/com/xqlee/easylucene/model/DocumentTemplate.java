@@ -0,0 +1,176 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xqlee.easylucene.model;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 可复用文档模板
+ * 按字段定义(字段名、是否保存、字段类型、是否写入 DocValues、高亮偏移)创建一次 Document 与 Field，之后每个文档只替换字段值
+ * 模板非线程安全，通过 {@link #get(List)} / {@link #get(IndexDocBatch)} 按线程获取；
+ * fill 返回的 Document 在下一次 fill 时被覆盖，只能在 IndexWriter.addDocument/updateDocument 等同步消费的场景使用
+ */
+public class DocumentTemplate {
+
+    /** 每个线程缓存的模板数量上限 **/
+    private static final int MAX_CACHED = 32;
+
+    /** 线程 -> 最近使用的模板 **/
+    private static final ThreadLocal<DocumentTemplate> LAST = new ThreadLocal<>();
+
+    /** 线程 -> 字段定义签名 -> 模板 **/
+    private static final ThreadLocal<Map<String, DocumentTemplate>> CACHE = ThreadLocal.withInitial(
+            () -> new LinkedHashMap<String, DocumentTemplate>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, DocumentTemplate> eldest) {
+                    return size() > MAX_CACHED;
+                }
+            });
+
+    private final Document document = new Document();
+    private final String[] names;
+    private final boolean[] stores;
+    private final IndexFieldType[] types;
+    private final boolean[] docValues;
+    private final HighlightOffsets[] offsets;
+    /** 每个定义字段对应的 Lucene 字段(数值类型可能包含 Point/Stored/DocValues 多个) **/
+    private final Field[][] fields;
+
+    private DocumentTemplate(int count) {
+        names = new String[count];
+        stores = new boolean[count];
+        types = new IndexFieldType[count];
+        docValues = new boolean[count];
+        offsets = new HighlightOffsets[count];
+        fields = new Field[count][];
+    }
+
+    /**
+     * 获取当前线程与字段定义一致的模板
+     * @param indexFields 字段(仅使用字段名、是否保存、字段类型、是否写入 DocValues、高亮偏移)
+     * @return 模板
+     */
+    public static DocumentTemplate get(List<IndexField> indexFields) {
+        DocumentTemplate last = LAST.get();
+        if (last != null && last.matches(indexFields)) {
+            return last;
+        }
+        StringBuilder signature = new StringBuilder();
+        for (IndexField field : indexFields) {
+            appendSignature(signature, field.getName(), field.isStore(), field.getType(), field.isDocValues(),
+                    field.getOffsets());
+        }
+        DocumentTemplate template = CACHE.get().computeIfAbsent(signature.toString(), k -> {
+            DocumentTemplate created = new DocumentTemplate(indexFields.size());
+            for (int i = 0; i < indexFields.size(); i++) {
+                IndexField field = indexFields.get(i);
+                created.define(i, field.getName(), field.isStore(), field.getType(), field.isDocValues(),
+                        field.getOffsets());
+            }
+            return created;
+        });
+        LAST.set(template);
+        return template;
+    }
+
+    /**
+     * 获取当前线程与批次字段定义一致的模板
+     * @param batch 列式批量文档
+     * @return 模板
+     */
+    public static DocumentTemplate get(IndexDocBatch batch) {
+        StringBuilder signature = new StringBuilder();
+        for (int i = 0; i < batch.getFieldCount(); i++) {
+            appendSignature(signature, batch.getFieldName(i), batch.isStore(i), batch.getType(i), batch.isDocValues(i),
+                    batch.getOffsets(i));
+        }
+        DocumentTemplate template = CACHE.get().computeIfAbsent(signature.toString(), k -> {
+            DocumentTemplate created = new DocumentTemplate(batch.getFieldCount());
+            for (int i = 0; i < batch.getFieldCount(); i++) {
+                created.define(i, batch.getFieldName(i), batch.isStore(i), batch.getType(i), batch.isDocValues(i),
+                        batch.getOffsets(i));
+            }
+            return created;
+        });
+        LAST.set(template);
+        return template;
+    }
+
+    /**
+     * 填充字段值
+     * @param indexFields 字段，顺序与定义一致
+     * @return 复用的 Document
+     */
+    public Document fill(List<IndexField> indexFields) {
+        for (int i = 0; i < fields.length; i++) {
+            types[i].setValue(fields[i], indexFields.get(i).getValue());
+        }
+        return document;
+    }
+
+    /**
+     * 填充批次中指定文档的字段值
+     * @param batch 列式批量文档
+     * @param row 文档序号
+     * @return 复用的 Document
+     */
+    public Document fill(IndexDocBatch batch, int row) {
+        for (int i = 0; i < fields.length; i++) {
+            types[i].setValue(fields[i], batch.getValue(row, i));
+        }
+        return document;
+    }
+
+    private void define(int index, String name, boolean store, IndexFieldType type, boolean docValue,
+                        HighlightOffsets offset) {
+        names[index] = name;
+        stores[index] = store;
+        types[index] = type;
+        docValues[index] = docValue;
+        offsets[index] = offset;
+        fields[index] = type.createFields(name, store, docValue, offset);
+        for (Field field : fields[index]) {
+            document.add(field);
+        }
+    }
+
+    private boolean matches(List<IndexField> indexFields) {
+        if (indexFields.size() != names.length) {
+            return false;
+        }
+        for (int i = 0; i < names.length; i++) {
+            IndexField field = indexFields.get(i);
+            if (field.isStore() != stores[i] || field.getType() != types[i] || field.isDocValues() != docValues[i]
+                    || field.getOffsets() != offsets[i]
+                    || !names[i].equals(field.getName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void appendSignature(StringBuilder signature, String name, boolean store,
+                                        IndexFieldType type, boolean docValue, HighlightOffsets offset) {
+        signature.append(name).append(':').append(type.ordinal())
+                .append(store ? 'S' : 'N').append(docValue ? 'D' : 'N').append(offset.ordinal()).append('\u0000');
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.xqlee.easylucene.model;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 返回字段投影
+ * 只解码指定的存储字段，未指定的字段(如大文本正文)不再复制到结果；
+ * 开启 docValues 的字段可直接从 DocValues 读取，全部字段均来自 DocValues 时不再读取存储文档
+ * <pre>
+ * FieldProjection.of("id", "title").docValue("price", IndexFieldType.DOUBLE);
+ * </pre>
+ */
+@Getter
+public class FieldProjection {
+
+    /** 从存储字段读取的字段 **/
+    private final Set<String> storedFields = new LinkedHashSet<>();
+    /** 从 DocValues 读取的字段 -> 字段类型 **/
+    private final Map<String, IndexFieldType> docValueFields = new LinkedHashMap<>();
+
+    /**
+     * 指定读取的存储字段
+     * @param names 字段名称
+     * @return 投影
+     */
+    public static FieldProjection of(String... names) {
+        FieldProjection projection = new FieldProjection();
+        projection.storedFields.addAll(Arrays.asList(names));
+        return projection;
+    }
+
+    /**
+     * 增加读取的存储字段
+     * @param name 字段名称
+     * @return 当前投影
+     */
+    public FieldProjection stored(String name) {
+        storedFields.add(name);
+        return this;
+    }
+
+    /**
+     * 增加从 DocValues 读取的字段(写入时需开启 docValues)
+     * @param name 字段名称
+     * @param type 字段类型，支持 STRING/INT/LONG/DOUBLE/DATE
+     * @return 当前投影
+     */
+    public FieldProjection docValue(String name, IndexFieldType type) {
+        docValueFields.put(name, type);
+        return this;
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xqlee.easylucene.model;
+
+/**
+ * 高亮偏移写入方式(仅 TEXT/STRING 字段)
+ * 索引时记录词元偏移，查询高亮时直接使用偏移，不再对字段值重新分词
+ */
+public enum HighlightOffsets {
+
+    /** 不记录偏移，高亮时重新分词 **/
+    NONE,
+    /** 倒排中记录偏移，用于 postings 高亮 **/
+    POSTINGS,
+    /** 写入词向量(含位置与偏移)，用于 FastVectorHighlighter **/
+    TERM_VECTORS
+}
@@ -19,8 +19,6 @@ package com.xqlee.easylucene.model;
 import lombok.Getter;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
-import org.apache.lucene.document.StringField;
-import org.apache.lucene.document.TextField;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -46,16 +44,11 @@ public class IndexDoc {
     public Document toDoc() {
         Document doc = new Document();
         for (IndexField field : fields) {
-            Field.Store store;
-            if (field.isStore()) {
-                store = Field.Store.YES;
-            } else {
-                store = Field.Store.NO;
-            }
-            if (field.isAnalysis()) {
-                doc.add(new TextField(field.getName(), field.getValue(), store));
-            } else {
-                doc.add(new StringField(field.getName(), field.getValue(), store));
+            IndexFieldType type = field.getType();
+            Field[] typeFields = type.createFields(field.getName(), field.isStore(), field.isDocValues(), field.getOffsets());
+            type.setValue(typeFields, field.getValue());
+            for (Field typeField : typeFields) {
+                doc.add(typeField);
             }
         }
         return doc;
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xqlee.easylucene.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 列式批量文档
+ * 一批文档共用同一字段定义，字段值按列存放，不再为每个文档每个字段创建 IndexField，适合大批量重建索引
+ * <pre>
+ * IndexDocBatch batch = new IndexDocBatch()
+ *         .field("id", true, false)
+ *         .field("title", true, true);
+ * batch.add("1", "标题");
+ * </pre>
+ */
+public class IndexDocBatch {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** 字段名称 **/
+    private final List<String> names = new ArrayList<>();
+    /** 是否保存 **/
+    private final List<Boolean> stores = new ArrayList<>();
+    /** 字段类型 **/
+    private final List<IndexFieldType> types = new ArrayList<>();
+    /** 是否写入 DocValues **/
+    private final List<Boolean> docValues = new ArrayList<>();
+    /** 高亮偏移写入方式 **/
+    private final List<HighlightOffsets> offsets = new ArrayList<>();
+    /** 字段值，每个字段一列 **/
+    private String[][] columns = new String[0][];
+    /** 文档数量 **/
+    private int size;
+
+    /**
+     * 定义字段，须在添加文档前定义
+     * @param name 字段名称
+     * @param store 是否保存
+     * @param analysis 是否分词
+     * @return 当前批次
+     */
+    public IndexDocBatch field(String name, boolean store, boolean analysis) {
+        return field(name, store, analysis ? IndexFieldType.TEXT : IndexFieldType.STRING, false);
+    }
+
+    /**
+     * 定义类型字段，须在添加文档前定义
+     * @param name 字段名称
+     * @param store 是否保存
+     * @param type 字段类型
+     * @param docValues 是否写入 DocValues(用于排序)
+     * @return 当前批次
+     */
+    public IndexDocBatch field(String name, boolean store, IndexFieldType type, boolean docValues) {
+        return field(name, store, type, docValues, HighlightOffsets.NONE);
+    }
+
+    /**
+     * 定义记录高亮偏移的字段，须在添加文档前定义
+     * @param name 字段名称
+     * @param store 是否保存
+     * @param type 字段类型(TEXT/STRING)
+     * @param docValues 是否写入 DocValues(用于排序)
+     * @param offsets 高亮偏移写入方式
+     * @return 当前批次
+     */
+    public IndexDocBatch field(String name, boolean store, IndexFieldType type, boolean docValues,
+                               HighlightOffsets offsets) {
+        if (size > 0) {
+            throw new IllegalStateException("Fields must be defined before adding documents");
+        }
+        names.add(name);
+        stores.add(store);
+        types.add(type);
+        this.docValues.add(docValues);
+        this.offsets.add(offsets == null ? HighlightOffsets.NONE : offsets);
+        columns = Arrays.copyOf(columns, names.size());
+        columns[names.size() - 1] = new String[DEFAULT_CAPACITY];
+        return this;
+    }
+
+    /**
+     * 添加一个文档，字段值顺序与字段定义顺序一致
+     * @param values 字段值
+     * @return 当前批次
+     */
+    public IndexDocBatch add(String... values) {
+        if (values.length != names.size()) {
+            throw new IllegalArgumentException("Expected " + names.size() + " values but got " + values.length);
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (size == columns[i].length) {
+                columns[i] = Arrays.copyOf(columns[i], size + (size >> 1));
+            }
+            columns[i][size] = values[i];
+        }
+        size++;
+        return this;
+    }
+
+    /**
+     * 文档数量
+     * @return 数量
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 字段数量
+     * @return 数量
+     */
+    public int getFieldCount() {
+        return names.size();
+    }
+
+    /**
+     * 字段名称
+     * @param field 字段序号
+     * @return 字段名称
+     */
+    public String getFieldName(int field) {
+        return names.get(field);
+    }
+
+    /**
+     * 是否保存
+     * @param field 字段序号
+     * @return 是否保存
+     */
+    public boolean isStore(int field) {
+        return stores.get(field);
+    }
+
+    /**
+     * 字段类型
+     * @param field 字段序号
+     * @return 字段类型
+     */
+    public IndexFieldType getType(int field) {
+        return types.get(field);
+    }
+
+    /**
+     * 是否写入 DocValues
+     * @param field 字段序号
+     * @return 是否写入 DocValues
+     */
+    public boolean isDocValues(int field) {
+        return docValues.get(field);
+    }
+
+    /**
+     * 高亮偏移写入方式
+     * @param field 字段序号
+     * @return 写入方式
+     */
+    public HighlightOffsets getOffsets(int field) {
+        return offsets.get(field);
+    }
+
+    /**
+     * 获取字段值
+     * @param row 文档序号
+     * @param field 字段序号
+     * @return 字段值
+     */
+    public String getValue(int row, int field) {
+        if (row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of " + size);
+        }
+        return columns[field][row];
+    }
+}
@@ -20,6 +20,8 @@ package com.xqlee.easylucene.model;
 import lombok.Data;
 import org.apache.lucene.analysis.Analyzer;
 
+import java.util.Date;
+
 @Data
 public class IndexField {
 
@@ -35,6 +37,95 @@ public class IndexField {
         this.analysis = analysis;
     }
 
+    /**
+     * 构造类型字段
+     * @param name 字段名称
+     * @param value 字段值(数值的字符串形式，日期为毫秒时间戳)
+     * @param store 是否保存
+     * @param type 字段类型
+     * @param docValues 是否写入 DocValues(用于排序)
+     */
+    public IndexField(String name, String value, boolean store, IndexFieldType type, boolean docValues) {
+        this.name = name;
+        this.value = value;
+        this.store = store;
+        this.type = type;
+        this.analysis = type == IndexFieldType.TEXT;
+        this.docValues = docValues;
+    }
+
+    /**
+     * 分词文本字段，索引时记录高亮偏移，高亮时不再重新分词
+     * @param name 字段名称
+     * @param value 字段值
+     * @param store 是否保存(高亮字段需保存)
+     * @param offsets 高亮偏移写入方式
+     * @return 字段
+     */
+    public static IndexField ofText(String name, String value, boolean store, HighlightOffsets offsets) {
+        IndexField field = new IndexField(name, value, store, IndexFieldType.TEXT, false);
+        field.setOffsets(offsets);
+        return field;
+    }
+
+    /**
+     * int 字段
+     * @param name 字段名称
+     * @param value 字段值
+     * @param store 是否保存
+     * @param docValues 是否可排序
+     * @return 字段
+     */
+    public static IndexField ofInt(String name, int value, boolean store, boolean docValues) {
+        return new IndexField(name, String.valueOf(value), store, IndexFieldType.INT, docValues);
+    }
+
+    /**
+     * long 字段
+     * @param name 字段名称
+     * @param value 字段值
+     * @param store 是否保存
+     * @param docValues 是否可排序
+     * @return 字段
+     */
+    public static IndexField ofLong(String name, long value, boolean store, boolean docValues) {
+        return new IndexField(name, String.valueOf(value), store, IndexFieldType.LONG, docValues);
+    }
+
+    /**
+     * double 字段
+     * @param name 字段名称
+     * @param value 字段值
+     * @param store 是否保存
+     * @param docValues 是否可排序
+     * @return 字段
+     */
+    public static IndexField ofDouble(String name, double value, boolean store, boolean docValues) {
+        return new IndexField(name, String.valueOf(value), store, IndexFieldType.DOUBLE, docValues);
+    }
+
+    /**
+     * 日期字段，以毫秒时间戳索引
+     * @param name 字段名称
+     * @param value 字段值
+     * @param store 是否保存
+     * @param docValues 是否可排序
+     * @return 字段
+     */
+    public static IndexField ofDate(String name, Date value, boolean store, boolean docValues) {
+        return new IndexField(name, String.valueOf(value.getTime()), store, IndexFieldType.DATE, docValues);
+    }
+
+    /**
+     * 仅存储字段，不索引
+     * @param name 字段名称
+     * @param value 字段值
+     * @return 字段
+     */
+    public static IndexField ofStored(String name, String value) {
+        return new IndexField(name, value, true, IndexFieldType.STORED, false);
+    }
+
     /** 字段名称 **/
     private String name;
     /** 字段值 **/
@@ -45,4 +136,29 @@ public class IndexField {
     private Analyzer analyzer;
     /** 是否分词 **/
     private boolean analysis;
+    /** 字段类型，为空时按是否分词取 TEXT/STRING **/
+    private IndexFieldType type;
+    /** 是否写入 DocValues(列式存储，用于排序) **/
+    private boolean docValues;
+    /** 高亮偏移写入方式(TEXT/STRING)，为空时不记录 **/
+    private HighlightOffsets offsets;
+
+    /**
+     * 字段类型
+     * @return 字段类型，未设置时按是否分词取 TEXT/STRING
+     */
+    public IndexFieldType getType() {
+        if (type == null) {
+            return analysis ? IndexFieldType.TEXT : IndexFieldType.STRING;
+        }
+        return type;
+    }
+
+    /**
+     * 高亮偏移写入方式
+     * @return 写入方式，未设置时为 NONE
+     */
+    public HighlightOffsets getOffsets() {
+        return offsets == null ? HighlightOffsets.NONE : offsets;
+    }
 }
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xqlee.easylucene.model;
+
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TermRangeQuery;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * 字段类型
+ * 数值/日期类型写入 Point 用于范围查询，开启 docValues 后额外写入列式 DocValues 用于排序，无需加载存储文档
+ * 字段值统一以字符串传递，日期为毫秒时间戳
+ */
+public enum IndexFieldType {
+
+    /** 分词文本 **/
+    TEXT,
+    /** 不分词字符串，docValues 使用 SortedDocValuesField **/
+    STRING,
+    /** int，IntPoint **/
+    INT,
+    /** long，LongPoint **/
+    LONG,
+    /** double，DoublePoint **/
+    DOUBLE,
+    /** 日期(毫秒时间戳)，LongPoint **/
+    DATE,
+    /** 仅存储，不索引 **/
+    STORED;
+
+    /**
+     * 创建字段(值为占位值，通过 {@link #setValue(Field[], String)} 设置)
+     * @param name 字段名称
+     * @param store 是否保存
+     * @param docValues 是否写入 DocValues
+     * @return 字段
+     */
+    public Field[] createFields(String name, boolean store, boolean docValues) {
+        return createFields(name, store, docValues, HighlightOffsets.NONE);
+    }
+
+    /**
+     * 创建字段(值为占位值，通过 {@link #setValue(Field[], String)} 设置)
+     * @param name 字段名称
+     * @param store 是否保存
+     * @param docValues 是否写入 DocValues
+     * @param offsets 高亮偏移写入方式，仅 TEXT/STRING 支持
+     * @return 字段
+     */
+    public Field[] createFields(String name, boolean store, boolean docValues, HighlightOffsets offsets) {
+        if (offsets != null && offsets != HighlightOffsets.NONE && this != TEXT && this != STRING) {
+            throw new IllegalArgumentException(this + " field [" + name + "] does not support highlight offsets");
+        }
+        switch (this) {
+            case TEXT:
+                if (docValues) {
+                    throw new IllegalArgumentException("TEXT field [" + name + "] does not support doc values, use STRING");
+                }
+                return new Field[]{new Field(name, "", withOffsets(store ? TextField.TYPE_STORED : TextField.TYPE_NOT_STORED, offsets))};
+            case STRING:
+                Field stringField = new Field(name, "", withOffsets(store ? StringField.TYPE_STORED : StringField.TYPE_NOT_STORED, offsets));
+                return docValues
+                        ? new Field[]{stringField, new SortedDocValuesField(name, new BytesRef())}
+                        : new Field[]{stringField};
+            case INT:
+                return numericFields(new IntPoint(name, 0), store ? new StoredField(name, 0) : null,
+                        docValues ? new NumericDocValuesField(name, 0L) : null);
+            case LONG:
+            case DATE:
+                return numericFields(new LongPoint(name, 0L), store ? new StoredField(name, 0L) : null,
+                        docValues ? new NumericDocValuesField(name, 0L) : null);
+            case DOUBLE:
+                return numericFields(new DoublePoint(name, 0d), store ? new StoredField(name, 0d) : null,
+                        docValues ? new DoubleDocValuesField(name, 0d) : null);
+            default:
+                return new Field[]{new StoredField(name, "")};
+        }
+    }
+
+    /**
+     * 设置字段值
+     * @param fields {@link #createFields(String, boolean, boolean)} 创建的字段
+     * @param value 字段值
+     */
+    public void setValue(Field[] fields, String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Field [" + fields[0].name() + "] value must not be null");
+        }
+        switch (this) {
+            case TEXT:
+            case STORED:
+                fields[0].setStringValue(value);
+                break;
+            case STRING:
+                fields[0].setStringValue(value);
+                if (fields.length > 1) {
+                    fields[1].setBytesValue(new BytesRef(value));
+                }
+                break;
+            case INT:
+                int intValue = Integer.parseInt(value);
+                for (Field field : fields) {
+                    if (field instanceof IntPoint) {
+                        ((IntPoint) field).setIntValue(intValue);
+                    } else if (field instanceof StoredField) {
+                        field.setIntValue(intValue);
+                    } else {
+                        field.setLongValue(intValue);
+                    }
+                }
+                break;
+            case LONG:
+            case DATE:
+                long longValue = Long.parseLong(value);
+                for (Field field : fields) {
+                    field.setLongValue(longValue);
+                }
+                break;
+            default:
+                double doubleValue = Double.parseDouble(value);
+                for (Field field : fields) {
+                    field.setDoubleValue(doubleValue);
+                }
+        }
+    }
+
+    /**
+     * 范围查询，边界为空表示不限
+     * @param name 字段名称
+     * @param min 最小值(包含)
+     * @param max 最大值(包含)
+     * @return 查询
+     */
+    public Query newRangeQuery(String name, String min, String max) {
+        switch (this) {
+            case INT:
+                return IntPoint.newRangeQuery(name, min == null ? Integer.MIN_VALUE : Integer.parseInt(min),
+                        max == null ? Integer.MAX_VALUE : Integer.parseInt(max));
+            case LONG:
+            case DATE:
+                return LongPoint.newRangeQuery(name, min == null ? Long.MIN_VALUE : Long.parseLong(min),
+                        max == null ? Long.MAX_VALUE : Long.parseLong(max));
+            case DOUBLE:
+                return DoublePoint.newRangeQuery(name, min == null ? Double.NEGATIVE_INFINITY : Double.parseDouble(min),
+                        max == null ? Double.POSITIVE_INFINITY : Double.parseDouble(max));
+            case STRING:
+                return TermRangeQuery.newStringRange(name, min, max, true, true);
+            default:
+                throw new IllegalArgumentException(this + " field [" + name + "] does not support range query");
+        }
+    }
+
+    /**
+     * 精确匹配查询，值不分词不转义
+     * @param name 字段名称
+     * @param value 字段值
+     * @return 查询
+     */
+    public Query newExactQuery(String name, String value) {
+        switch (this) {
+            case INT:
+                return IntPoint.newExactQuery(name, Integer.parseInt(value));
+            case LONG:
+            case DATE:
+                return LongPoint.newExactQuery(name, Long.parseLong(value));
+            case DOUBLE:
+                return DoublePoint.newExactQuery(name, Double.parseDouble(value));
+            case TEXT:
+            case STRING:
+                return new TermQuery(new Term(name, value));
+            default:
+                throw new IllegalArgumentException(this + " field [" + name + "] does not support exact query");
+        }
+    }
+
+    /**
+     * 排序字段，字段需开启 docValues
+     * @param name 字段名称
+     * @param reverse 是否倒序
+     * @return 排序字段
+     */
+    public SortField newSortField(String name, boolean reverse) {
+        switch (this) {
+            case INT:
+                return new SortField(name, SortField.Type.INT, reverse);
+            case LONG:
+            case DATE:
+                return new SortField(name, SortField.Type.LONG, reverse);
+            case DOUBLE:
+                return new SortField(name, SortField.Type.DOUBLE, reverse);
+            case STRING:
+                return new SortField(name, SortField.Type.STRING, reverse);
+            default:
+                throw new IllegalArgumentException(this + " field [" + name + "] does not support sorting");
+        }
+    }
+
+    private static FieldType withOffsets(FieldType base, HighlightOffsets offsets) {
+        if (offsets == null || offsets == HighlightOffsets.NONE) {
+            return base;
+        }
+        FieldType fieldType = new FieldType(base);
+        if (offsets == HighlightOffsets.POSTINGS) {
+            fieldType.setIndexOptions(IndexOptions.DOCS_AND_FREQS_AND_POSITIONS_AND_OFFSETS);
+        } else {
+            fieldType.setStoreTermVectors(true);
+            fieldType.setStoreTermVectorPositions(true);
+            fieldType.setStoreTermVectorOffsets(true);
+        }
+        fieldType.freeze();
+        return fieldType;
+    }
+
+    private static Field[] numericFields(Field point, Field stored, Field docValues) {
+        int count = 1 + (stored == null ? 0 : 1) + (docValues == null ? 0 : 1);
+        Field[] fields = new Field[count];
+        int i = 0;
+        fields[i++] = point;
+        if (stored != null) {
+            fields[i++] = stored;
+        }
+        if (docValues != null) {
+            fields[i] = docValues;
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.xqlee.easylucene.model;
+
+import lombok.Data;
+
+/**
+ * 后台合并任务进度
+ * 已删除文档数与文档总数在任务执行中实时读取写入器，合并完成的段越多已删除文档数越少
+ */
+@Data
+public class MergeProgress {
+
+    /** 执行中 **/
+    public static final String STATUS_RUNNING = "running";
+    /** 已完成 **/
+    public static final String STATUS_COMPLETED = "completed";
+    /** 失败 **/
+    public static final String STATUS_FAILED = "failed";
+
+    /**
+     * 存入时候的路径
+     */
+    String pathname;
+    /**
+     * 操作(expungeDeletes / optimize)
+     */
+    String operation;
+    /**
+     * 状态
+     */
+    String status;
+    /**
+     * 开始时已删除(未回收)文档数
+     */
+    int deletedDocsBefore;
+    /**
+     * 当前已删除(未回收)文档数
+     */
+    int deletedDocs;
+    /**
+     * 开始时文档总数(含已删除)
+     */
+    int maxDocBefore;
+    /**
+     * 当前文档总数(含已删除)
+     */
+    int maxDoc;
+    /**
+     * 开始时间(毫秒时间戳)
+     */
+    long startTime;
+    /**
+     * 结束时间(毫秒时间戳)，未结束为0
+     */
+    long endTime;
+    /**
+     * 失败原因
+     */
+    String error;
+
+    /**
+     * 已回收删除文档百分比，完成时为100
+     * @return 百分比
+     */
+    public int getPercent() {
+        if (STATUS_COMPLETED.equals(status)) {
+            return 100;
+        }
+        if (deletedDocsBefore <= 0) {
+            return 0;
+        }
+        int reclaimed = Math.max(deletedDocsBefore - deletedDocs, 0);
+        return Math.min((int) (reclaimed * 100L / deletedDocsBefore), 99);
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xqlee.easylucene.model;
+
+import lombok.Getter;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.util.BytesRef;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 分页游标
+ * 记录上一页最后一条命中的得分(按字段排序时为排序值)及文档号，下一页直接从该位置继续收集，无需重复查询前面所有命中
+ * 索引刷新后按得分/排序值继续定位，文档号只用于同分时的先后顺序
+ * 对外以不透明字符串传递，见 {@link #encode()} / {@link #decode(String)}
+ */
+@Getter
+public class SearchCursor implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** 字段分隔符 **/
+    private static final String SEPARATOR = ":";
+
+    /** 最后一条命中得分 **/
+    private final float score;
+    /** 最后一条命中文档号 **/
+    private final int doc;
+    /** 游标所在页码 **/
+    private final int page;
+    /** 排序值(按字段排序时)，按相关度排序时为空 **/
+    private final Object[] fields;
+
+    /**
+     * 构造分页游标
+     * @param score 最后一条命中得分
+     * @param doc 最后一条命中文档号
+     * @param page 游标所在页码
+     */
+    public SearchCursor(float score, int doc, int page) {
+        this(score, doc, page, null);
+    }
+
+    /**
+     * 构造按字段排序的分页游标
+     * @param score 最后一条命中得分
+     * @param doc 最后一条命中文档号
+     * @param page 游标所在页码
+     * @param fields 最后一条命中的排序值(Integer/Long/Float/Double/BytesRef/null)
+     */
+    public SearchCursor(float score, int doc, int page, Object[] fields) {
+        this.score = score;
+        this.doc = doc;
+        this.page = page;
+        this.fields = fields;
+    }
+
+    /**
+     * 转换为 searchAfter 使用的 ScoreDoc，按字段排序时为 FieldDoc
+     * @param sort 当前查询的排序，为空时按相关度排序
+     * @return ScoreDoc
+     * @throws IllegalArgumentException 游标与排序方式不一致(相关度游标用于字段排序或相反，或排序值个数不同)
+     */
+    public ScoreDoc toScoreDoc(Sort sort) {
+        if (sort == null && fields != null) {
+            throw new IllegalArgumentException("Search cursor was created by a sorted query, but no sort is given");
+        }
+        if (sort != null && (fields == null || fields.length != sort.getSort().length)) {
+            throw new IllegalArgumentException("Search cursor does not match the sort " + sort
+                    + ", keep the same sort between pages");
+        }
+        if (fields != null) {
+            return new FieldDoc(doc, score, fields);
+        }
+        return new ScoreDoc(doc, score);
+    }
+
+    /**
+     * 编码为不透明字符串
+     * @return 游标字符串
+     */
+    public String encode() {
+        StringBuilder raw = new StringBuilder()
+                .append(Float.floatToIntBits(score)).append(SEPARATOR).append(doc)
+                .append(SEPARATOR).append(page);
+        if (fields != null) {
+            for (Object field : fields) {
+                raw.append(SEPARATOR).append(encodeField(field));
+            }
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解析游标字符串
+     * @param cursor 游标字符串
+     * @return 分页游标，为空时返回 null
+     * @throws IllegalArgumentException 游标格式错误
+     */
+    public static SearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            Object[] fields = null;
+            if (parts.length > 3) {
+                fields = new Object[parts.length - 3];
+                for (int i = 3; i < parts.length; i++) {
+                    fields[i - 3] = decodeField(parts[i]);
+                }
+            }
+            return new SearchCursor(Float.intBitsToFloat(Integer.parseInt(parts[0])), Integer.parseInt(parts[1]),
+                    Integer.parseInt(parts[2]), fields);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid search cursor: " + cursor, e);
+        }
+    }
+
+    /**
+     * 排序值编码: 类型标识 + 值，字符串排序值(BytesRef)以 Base64 编码
+     */
+    private static String encodeField(Object field) {
+        if (field == null) {
+            return "n";
+        }
+        if (field instanceof Integer) {
+            return "i" + field;
+        }
+        if (field instanceof Long) {
+            return "l" + field;
+        }
+        if (field instanceof Float) {
+            return "f" + Float.floatToIntBits((Float) field);
+        }
+        if (field instanceof Double) {
+            return "d" + Double.doubleToLongBits((Double) field);
+        }
+        if (field instanceof BytesRef) {
+            return "s" + Base64.getUrlEncoder().withoutPadding().encodeToString(BytesRef.deepCopyOf((BytesRef) field).bytes);
+        }
+        throw new IllegalArgumentException("Unsupported sort value: " + field.getClass().getName());
+    }
+
+    private static Object decodeField(String value) {
+        String body = value.substring(1);
+        switch (value.charAt(0)) {
+            case 'n':
+                return null;
+            case 'i':
+                return Integer.parseInt(body);
+            case 'l':
+                return Long.parseLong(body);
+            case 'f':
+                return Float.intBitsToFloat(Integer.parseInt(body));
+            case 'd':
+                return Double.longBitsToDouble(Long.parseLong(body));
+            case 's':
+                return new BytesRef(Base64.getUrlDecoder().decode(body));
+            default:
+                throw new IllegalArgumentException("Unsupported sort value: " + value);
+        }
+    }
+}
@@ -62,6 +62,7 @@ public class SearchField {
      *                    4．SHOULD与MUST连用时，结果为MUST子句的检索结果,但是SHOULD可影响排序。
      *                    5．SHOULD与SHOULD：表示“或”关系，最终检索结果为所有检索子句的并集。
      *                    6．MUST_NOT和MUST_NOT：无意义，检索无结果。
+     *                    7．FILTER：同 MUST 但不参与评分，匹配结果可由查询器过滤缓存复用。
      */
     public SearchField(String name, String value, boolean isHighlight, BooleanClause.Occur occur) {
         this.name = name;
@@ -88,6 +89,28 @@ public class SearchField {
 
     }
 
+    /**
+     * 构造过滤字段: 不分词精确匹配，不参与评分，重复的过滤条件可由查询器过滤缓存复用
+     * @param name 字段名称
+     * @param value 字段值
+     * @return 查询字段
+     */
+    public static SearchField filter(String name, String value) {
+        return new SearchField(name, value, false, true, BooleanClause.Occur.FILTER);
+    }
+
+    /**
+     * 构造过滤字段: 按字段类型精确匹配，INT/LONG/DOUBLE/DATE 字段使用 Point 精确查询，不参与评分
+     * @param name 字段名称
+     * @param type 字段类型(与写入时一致)
+     * @param value 字段值
+     * @return 查询字段
+     */
+    public static SearchField filter(String name, IndexFieldType type, String value) {
+        SearchField searchField = filter(name, value);
+        searchField.setType(type);
+        return searchField;
+    }
 
     /**
      * 字段名称
@@ -109,6 +132,14 @@ public class SearchField {
      * 多条件查询时候
      **/
     private BooleanClause.Occur occur;
+    /**
+     * 基础查询的字段类型(与写入时一致)，为空按不分词字符串匹配
+     **/
+    private IndexFieldType type;
+    /**
+     * 解析查询值使用的命名分词器(见 AnalyzerProvider#registerAnalyzer)，为空使用默认分词器
+     **/
+    private String analyzerName;
 
     /**
      * 设置多条件查询关联关系
@@ -131,4 +162,12 @@ public class SearchField {
         }
         return null;
     }
+
+    /**
+     * 获取未转义的原始字段值，用于不经 QueryParser 解析的精确匹配
+     * @return 原始字段值
+     */
+    public String getRawValue(){
+        return this.value;
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.xqlee.easylucene.model;
+
+import lombok.Data;
+import org.apache.lucene.search.Query;
+
+/**
+ * 范围过滤条件
+ * 基于 Point(数值/日期) 或词项(STRING) 的范围查询，作为过滤条件不参与评分
+ */
+@Data
+public class SearchRange {
+
+    /**
+     * 默认构造函数
+     */
+    public SearchRange() {
+
+    }
+
+    /**
+     * 构造范围过滤条件
+     * @param name 字段名称
+     * @param type 字段类型(与写入时一致)
+     * @param min 最小值(包含)，为空不限
+     * @param max 最大值(包含)，为空不限
+     */
+    public SearchRange(String name, IndexFieldType type, String min, String max) {
+        this.name = name;
+        this.type = type;
+        this.min = min;
+        this.max = max;
+    }
+
+    /** 字段名称 **/
+    private String name;
+    /** 字段类型 **/
+    private IndexFieldType type;
+    /** 最小值(包含)，为空不限 **/
+    private String min;
+    /** 最大值(包含)，为空不限 **/
+    private String max;
+
+    /**
+     * 转换为范围查询
+     * @return 查询
+     */
+    public Query toQuery() {
+        return type.newRangeQuery(name, min, max);
+    }
+}
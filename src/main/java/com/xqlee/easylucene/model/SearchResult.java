@@ -52,6 +52,11 @@ public class SearchResult {
      * 记录
      */
     List<Map<String,String>> rows;
+    /**
+     * 下一页游标，没有更多结果时为空
+     * 传入游标查询重载即可直接获取下一页
+     */
+    String cursor;
 
 
     /**
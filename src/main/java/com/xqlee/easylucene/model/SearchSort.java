@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.xqlee.easylucene.model;
+
+import lombok.Data;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 排序条件
+ * 按字段 DocValues 排序(字段写入时需开启 docValues)，type 为空时按相关度得分排序
+ */
+@Data
+public class SearchSort {
+
+    /**
+     * 默认构造函数
+     */
+    public SearchSort() {
+
+    }
+
+    /**
+     * 构造排序条件
+     * @param name 字段名称
+     * @param type 字段类型(与写入时一致)
+     * @param reverse 是否倒序
+     */
+    public SearchSort(String name, IndexFieldType type, boolean reverse) {
+        this.name = name;
+        this.type = type;
+        this.reverse = reverse;
+    }
+
+    /**
+     * 按相关度得分排序
+     * @return 排序条件
+     */
+    public static SearchSort byScore() {
+        return new SearchSort();
+    }
+
+    /** 字段名称 **/
+    private String name;
+    /** 字段类型 **/
+    private IndexFieldType type;
+    /** 是否倒序 **/
+    private boolean reverse;
+
+    /**
+     * 转换为排序字段
+     * @return 排序字段
+     */
+    public SortField toSortField() {
+        if (type == null) {
+            return SortField.FIELD_SCORE;
+        }
+        return type.newSortField(name, reverse);
+    }
+
+    /**
+     * 转换为 Lucene 排序
+     * @param sorts 排序条件
+     * @return 排序，条件为空时返回 null(按相关度)
+     */
+    public static Sort toSort(List<SearchSort> sorts) {
+        if (sorts == null || sorts.isEmpty()) {
+            return null;
+        }
+        SortField[] sortFields = new SortField[sorts.size()];
+        for (int i = 0; i < sorts.size(); i++) {
+            sortFields[i] = sorts.get(i).toSortField();
+        }
+        return new Sort(sortFields);
+    }
+
+    /**
+     * 解析排序配置，格式: 字段名:字段类型[:desc]，多个以逗号分隔，如 created:date:desc,price:double
+     * @param spec 排序配置
+     * @return 排序条件
+     * @throws IllegalArgumentException 格式错误
+     */
+    public static List<SearchSort> parse(String spec) {
+        List<SearchSort> sorts = new ArrayList<>();
+        if (spec == null || spec.trim().isEmpty()) {
+            return sorts;
+        }
+        for (String item : spec.split(",")) {
+            String[] parts = item.trim().split(":");
+            if (parts.length < 2 || parts.length > 3) {
+                throw new IllegalArgumentException("Invalid sort: " + item + ", expected name:type[:desc]");
+            }
+            boolean reverse = parts.length == 3 && "desc".equalsIgnoreCase(parts[2].trim());
+            sorts.add(new SearchSort(parts[0].trim(), IndexFieldType.valueOf(parts[1].trim().toUpperCase(Locale.ROOT)), reverse));
+        }
+        return sorts;
+    }
+}
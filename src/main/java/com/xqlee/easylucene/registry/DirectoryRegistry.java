@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.xqlee.easylucene.registry;
+
+import com.xqlee.easylucene.store.DirectoryFactory;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.store.Directory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 索引目录注册中心
+ * 每个索引路径在应用生命周期内只打开一次 Directory，写入器与查询器共用，应用关闭时统一关闭
+ * 内存目录(ram)只能通过共用实例在写入器与查询器之间共享数据
+ */
+@Slf4j
+@Component
+public class DirectoryRegistry implements DisposableBean {
+
+    @Resource
+    DirectoryFactory directoryFactory;
+
+    /** 路径 -> 目录 **/
+    private final Map<String, Directory> directories = new ConcurrentHashMap<>();
+
+    /**
+     * 获取目录，不存在时打开，目录由注册中心管理，调用方不得关闭
+     * @param pathname 存入时候的路径
+     * @return 目录
+     * @throws IOException 打开失败
+     */
+    public Directory getDirectory(String pathname) throws IOException {
+        Directory directory = directories.get(pathname);
+        if (directory != null) {
+            return directory;
+        }
+        synchronized (directories) {
+            directory = directories.get(pathname);
+            if (directory == null) {
+                directory = directoryFactory.create(pathname);
+                directories.put(pathname, directory);
+                log.info("Easy Lucene Directory Opened [{}] {}", pathname, directory);
+            }
+            return directory;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        for (Map.Entry<String, Directory> entry : directories.entrySet()) {
+            try {
+                entry.getValue().close();
+            } catch (IOException e) {
+                log.error("Easy Lucene Close Directory [{}] Failed", entry.getKey(), e);
+            }
+        }
+        directories.clear();
+    }
+}
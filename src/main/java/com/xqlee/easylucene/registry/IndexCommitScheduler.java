@@ -0,0 +1,155 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xqlee.easylucene.registry;
+
+import com.xqlee.easylucene.autoconfigure.EasyLuceneProperties;
+import com.xqlee.easylucene.metrics.EasyLuceneMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 提交调度器(组提交)
+ * 更新/删除操作只登记待提交数量，按时间间隔或待提交数量阈值合并为一次提交，减少 fsync 次数
+ * commit_interval_ms 与 commit_max_pending_ops 均小于等于0时，每次操作立即提交
+ * 仅配置 commit_max_pending_ops 时按默认间隔 {@link #DEFAULT_COMMIT_INTERVAL_MS} 定时提交，避免未达阈值的变更长期不提交
+ */
+@Slf4j
+@Component
+public class IndexCommitScheduler implements DisposableBean {
+
+    @Resource
+    EasyLuceneProperties easyLuceneProperties;
+
+    @Resource
+    IndexWriterRegistry indexWriterRegistry;
+
+    @Resource
+    EasyLuceneMetrics easyLuceneMetrics;
+
+    /** 仅配置待提交操作数阈值时的默认提交间隔(毫秒) **/
+    public static final long DEFAULT_COMMIT_INTERVAL_MS = 1000;
+
+    /** 路径 -> 待提交操作数 **/
+    private final Map<String, AtomicLong> pendingOps = new ConcurrentHashMap<>();
+
+    /** 定时提交调度器 **/
+    private ScheduledExecutorService commitScheduler;
+
+    /**
+     * 启动定时提交任务
+     */
+    @PostConstruct
+    public void init() {
+        long interval = easyLuceneProperties.getCommit_interval_ms();
+        long maxPendingOps = easyLuceneProperties.getCommit_max_pending_ops();
+        if (interval <= 0 && maxPendingOps <= 0) {
+            log.info("Easy Lucene Group Commit Disabled, Commit Per Operation");
+            return;
+        }
+        if (interval <= 0) {
+            // 未达阈值的变更也需要定时兜底提交
+            interval = DEFAULT_COMMIT_INTERVAL_MS;
+        }
+        commitScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "easy-lucene-commit");
+            thread.setDaemon(true);
+            return thread;
+        });
+        commitScheduler.scheduleWithFixedDelay(this::commitAll, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("Easy Lucene Group Commit Interval [{}ms] Max Pending Ops [{}]", interval, maxPendingOps);
+    }
+
+    /**
+     * 登记已写入写入器但未提交的操作
+     * @param pathname 存入时候的路径
+     * @param ops 操作数量
+     * @throws IOException 立即提交模式下提交失败
+     */
+    public void onChange(String pathname, long ops) throws IOException {
+        if (commitScheduler == null) {
+            commit(pathname);
+            return;
+        }
+        long pending = pendingOps.computeIfAbsent(pathname, k -> new AtomicLong()).addAndGet(ops);
+        long maxPendingOps = easyLuceneProperties.getCommit_max_pending_ops();
+        if (maxPendingOps > 0 && pending >= maxPendingOps) {
+            // 达到阈值，交由提交线程处理，不阻塞调用方
+            commitScheduler.execute(() -> commitQuietly(pathname));
+        }
+    }
+
+    /**
+     * 立即提交指定路径，清空待提交计数
+     * @param pathname 存入时候的路径
+     * @throws IOException 提交失败
+     */
+    public void commit(String pathname) throws IOException {
+        AtomicLong pending = pendingOps.get(pathname);
+        long ops = pending == null ? 0 : pending.getAndSet(0);
+        try {
+            long startTime = System.nanoTime();
+            indexWriterRegistry.commit(pathname);
+            easyLuceneMetrics.recordCommit(pathname, System.nanoTime() - startTime);
+        } catch (IOException e) {
+            if (pending != null) {
+                // 提交失败，恢复计数等待下次重试
+                pending.addAndGet(ops);
+            }
+            throw e;
+        }
+        if (ops > 0) {
+            log.debug("Easy Lucene Group Commit [{}] Ops [{}]", pathname, ops);
+        }
+    }
+
+    private void commitQuietly(String pathname) {
+        AtomicLong pending = pendingOps.get(pathname);
+        if (pending == null || pending.get() <= 0) {
+            return;
+        }
+        try {
+            commit(pathname);
+        } catch (Exception e) {
+            log.error("Easy Lucene Commit [{}] Failed", pathname, e);
+        }
+    }
+
+    private void commitAll() {
+        for (String pathname : pendingOps.keySet()) {
+            commitQuietly(pathname);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (commitScheduler != null) {
+            commitScheduler.shutdownNow();
+        }
+        commitAll();
+    }
+}
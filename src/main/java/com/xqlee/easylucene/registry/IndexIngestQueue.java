@@ -0,0 +1,279 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xqlee.easylucene.registry;
+
+import com.xqlee.easylucene.autoconfigure.EasyLuceneProperties;
+import com.xqlee.easylucene.metrics.EasyLuceneMetrics;
+import com.xqlee.easylucene.model.IndexDoc;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexWriter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 异步写入队列
+ * 写入请求进入有界队列后立即返回 CompletableFuture，由常驻写入线程合并批次后写入共享写入器，按提交策略提交
+ * 队列已满时按 ingest_rejection_policy 处理(阻塞/拒绝/调用线程写入)，避免写入高峰拖垮调用方
+ * 每个请求的文档作为一个整体原子写入并各自完成，文档使用写入器默认分词器，不使用 IndexField 上配置的字段分词器
+ */
+@Slf4j
+@Component
+public class IndexIngestQueue implements DisposableBean {
+
+    /** 阻塞等待队列空位 **/
+    public static final String POLICY_BLOCK = "block";
+    /** 立即拒绝 **/
+    public static final String POLICY_ABORT = "abort";
+    /** 调用线程直接写入 **/
+    public static final String POLICY_CALLER_RUNS = "caller_runs";
+
+    /** 写入线程空闲时检查关闭状态的间隔(毫秒) **/
+    private static final long POLL_INTERVAL_MS = 200;
+
+    @Resource
+    EasyLuceneProperties easyLuceneProperties;
+
+    @Resource
+    IndexWriterRegistry indexWriterRegistry;
+
+    @Resource
+    IndexCommitScheduler indexCommitScheduler;
+
+    @Resource
+    IndexSearcherRegistry indexSearcherRegistry;
+
+    @Resource
+    EasyLuceneMetrics easyLuceneMetrics;
+
+    /** 待写入请求 **/
+    private volatile BlockingQueue<IngestRequest> queue;
+
+    /** 写入线程，首次提交时启动 **/
+    private final List<Thread> workers = new ArrayList<>();
+
+    private volatile boolean closed;
+
+    /**
+     * 提交异步写入请求
+     * @param documents 文档
+     * @param pathname 存入时候的路径
+     * @return 写入完成(已写入写入器，按提交策略提交)后返回写入数量，异常完成时该请求的文档均未写入
+     */
+    public CompletableFuture<Integer> submit(List<IndexDoc> documents, String pathname) {
+        IngestRequest request = new IngestRequest(documents, pathname);
+        if (closed) {
+            request.future.completeExceptionally(new RejectedExecutionException("Easy Lucene ingest queue closed"));
+            return request.future;
+        }
+        if (documents == null || documents.isEmpty()) {
+            request.future.complete(0);
+            return request.future;
+        }
+        BlockingQueue<IngestRequest> target = getQueue();
+        String policy = easyLuceneProperties.getIngest_rejection_policy();
+        try {
+            if (target.offer(request)) {
+                return request.future;
+            }
+            if (POLICY_CALLER_RUNS.equalsIgnoreCase(policy)) {
+                write(pathname, List.of(request));
+                return request.future;
+            }
+            if (POLICY_BLOCK.equalsIgnoreCase(policy)) {
+                long timeout = easyLuceneProperties.getIngest_offer_timeout_ms();
+                if (timeout <= 0) {
+                    target.put(request);
+                    return request.future;
+                }
+                if (target.offer(request, timeout, TimeUnit.MILLISECONDS)) {
+                    return request.future;
+                }
+            }
+            request.future.completeExceptionally(new RejectedExecutionException(
+                    "Easy Lucene ingest queue full, capacity " + easyLuceneProperties.getIngest_queue_capacity()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            request.future.completeExceptionally(e);
+        }
+        return request.future;
+    }
+
+    /**
+     * 当前排队中的请求数
+     * @return 请求数
+     */
+    public int getQueueSize() {
+        BlockingQueue<IngestRequest> current = queue;
+        return current == null ? 0 : current.size();
+    }
+
+    private BlockingQueue<IngestRequest> getQueue() {
+        BlockingQueue<IngestRequest> current = queue;
+        if (current != null) {
+            return current;
+        }
+        synchronized (workers) {
+            if (queue == null) {
+                int threads = easyLuceneProperties.getIngest_threads();
+                if (threads <= 0) {
+                    threads = Runtime.getRuntime().availableProcessors();
+                }
+                queue = new LinkedBlockingQueue<>(Math.max(easyLuceneProperties.getIngest_queue_capacity(), 1));
+                for (int i = 0; i < threads; i++) {
+                    Thread worker = new Thread(this::runWorker, "easy-lucene-ingest-" + i);
+                    worker.setDaemon(true);
+                    worker.start();
+                    workers.add(worker);
+                }
+                log.info("Easy Lucene Ingest Queue Started Threads [{}] Capacity [{}] Policy [{}]", threads,
+                        easyLuceneProperties.getIngest_queue_capacity(), easyLuceneProperties.getIngest_rejection_policy());
+            }
+            return queue;
+        }
+    }
+
+    private void runWorker() {
+        int batchSize = Math.max(easyLuceneProperties.getIngest_batch_size(), 1);
+        List<IngestRequest> batch = new ArrayList<>();
+        while (true) {
+            IngestRequest first;
+            try {
+                first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first == null) {
+                if (closed) {
+                    return;
+                }
+                continue;
+            }
+            // 合并批次: 继续取出已排队的请求，直到达到批次大小
+            batch.add(first);
+            int docs = first.documents.size();
+            IngestRequest next;
+            while (docs < batchSize && (next = queue.poll()) != null) {
+                batch.add(next);
+                docs += next.documents.size();
+            }
+            Map<String, List<IngestRequest>> byPath = new LinkedHashMap<>();
+            for (IngestRequest request : batch) {
+                byPath.computeIfAbsent(request.pathname, k -> new ArrayList<>()).add(request);
+            }
+            for (Map.Entry<String, List<IngestRequest>> entry : byPath.entrySet()) {
+                write(entry.getKey(), entry.getValue());
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * 将同一路径的请求一次写入写入器
+     */
+    private void write(String pathname, List<IngestRequest> requests) {
+        long startTime = System.nanoTime();
+        IndexWriter indexWriter;
+        try {
+            indexWriter = indexWriterRegistry.getWriter(pathname);
+        } catch (Exception e) {
+            log.error("Easy Lucene Ingest [{}] Failed", pathname, e);
+            for (IngestRequest request : requests) {
+                request.future.completeExceptionally(e);
+            }
+            return;
+        }
+        List<IngestRequest> written = new ArrayList<>(requests.size());
+        long docCount = 0;
+        for (IngestRequest request : requests) {
+            try {
+                List<Document> docs = new ArrayList<>(request.documents.size());
+                for (IndexDoc document : request.documents) {
+                    docs.add(document.toDoc());
+                }
+                // 按请求原子写入(全部成功或全部不写入)，单个请求失败不影响同批次的其他请求
+                indexWriter.addDocuments(docs);
+                written.add(request);
+                docCount += docs.size();
+            } catch (Exception e) {
+                log.error("Easy Lucene Ingest [{}] Request Failed", pathname, e);
+                request.future.completeExceptionally(e);
+            }
+        }
+        if (written.isEmpty()) {
+            return;
+        }
+        try {
+            indexCommitScheduler.onChange(pathname, docCount);
+            indexSearcherRegistry.markChanged(pathname);
+            long costNanos = System.nanoTime() - startTime;
+            easyLuceneMetrics.recordWrite(pathname, "writeAsync", docCount, costNanos);
+            log.debug("Easy Lucene Ingest [{}] Requests [{}] Documents [{}] Cost Time [{}ms]", pathname,
+                    written.size(), docCount, TimeUnit.NANOSECONDS.toMillis(costNanos));
+            for (IngestRequest request : written) {
+                request.future.complete(request.documents.size());
+            }
+        } catch (Exception e) {
+            log.error("Easy Lucene Ingest [{}] Commit Failed", pathname, e);
+            for (IngestRequest request : written) {
+                request.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        closed = true;
+        // 写入线程处理完已排队请求后退出
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(30));
+        }
+        BlockingQueue<IngestRequest> current = queue;
+        if (current != null) {
+            IngestRequest request;
+            while ((request = current.poll()) != null) {
+                request.future.completeExceptionally(new RejectedExecutionException("Easy Lucene ingest queue closed"));
+            }
+        }
+    }
+
+    /**
+     * 写入请求
+     */
+    private static class IngestRequest {
+        private final List<IndexDoc> documents;
+        private final String pathname;
+        private final CompletableFuture<Integer> future = new CompletableFuture<>();
+
+        private IngestRequest(List<IndexDoc> documents, String pathname) {
+            this.documents = documents;
+            this.pathname = pathname;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.xqlee.easylucene.registry;
+
+import com.xqlee.easylucene.autoconfigure.EasyLuceneProperties;
+import com.xqlee.easylucene.model.MergeProgress;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.index.IndexWriter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 索引维护调度器
+ * 回收删除文档(expungeDeletes)、合并段(optimize)在低优先级的维护线程执行，不阻塞请求线程，可通过 {@link #getProgress(String)} 查看进度
+ * maintenance_interval_ms 大于0时定时检查已打开的写入器，删除文档占比达到 merge_deletes_pct_allowed 时自动回收
+ */
+@Slf4j
+@Component
+public class IndexMaintenanceScheduler implements DisposableBean {
+
+    /** 回收删除文档 **/
+    public static final String OPERATION_EXPUNGE_DELETES = "expungeDeletes";
+    /** 合并段 **/
+    public static final String OPERATION_OPTIMIZE = "optimize";
+
+    @Resource
+    EasyLuceneProperties easyLuceneProperties;
+
+    @Resource
+    IndexWriterRegistry indexWriterRegistry;
+
+    @Resource
+    IndexCommitScheduler indexCommitScheduler;
+
+    @Resource
+    IndexSearcherRegistry indexSearcherRegistry;
+
+    /** 路径 -> 最近一次任务 **/
+    private final Map<String, MaintenanceTask> tasks = new ConcurrentHashMap<>();
+
+    /** 维护线程，任务按提交顺序逐个执行 **/
+    private ScheduledExecutorService maintenanceExecutor;
+
+    /**
+     * 启动维护线程与定时检查任务
+     */
+    @PostConstruct
+    public void init() {
+        maintenanceExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "easy-lucene-maintenance");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        long interval = easyLuceneProperties.getMaintenance_interval_ms();
+        if (interval > 0) {
+            maintenanceExecutor.scheduleWithFixedDelay(this::checkAll, interval, interval, TimeUnit.MILLISECONDS);
+            log.info("Easy Lucene Maintenance Interval [{}ms] Deletes Pct Allowed [{}]", interval,
+                    easyLuceneProperties.getMerge_deletes_pct_allowed());
+        }
+    }
+
+    /**
+     * 异步回收删除文档，同一路径已有任务执行中时返回该任务
+     * @param pathname 存入时候的路径
+     * @return 完成后返回最终进度
+     */
+    public CompletableFuture<MergeProgress> expungeDeletes(String pathname) {
+        return submit(pathname, OPERATION_EXPUNGE_DELETES, 0);
+    }
+
+    /**
+     * 异步合并段，同一路径已有任务执行中时返回该任务
+     * @param pathname 存入时候的路径
+     * @param maxSegments 合并后最多段数
+     * @return 完成后返回最终进度
+     */
+    public CompletableFuture<MergeProgress> optimize(String pathname, int maxSegments) {
+        if (maxSegments < 1) {
+            throw new IllegalArgumentException("maxSegments must be >= 1, got " + maxSegments);
+        }
+        return submit(pathname, OPERATION_OPTIMIZE, maxSegments);
+    }
+
+    /**
+     * 最近一次任务进度
+     * @param pathname 存入时候的路径
+     * @return 进度，未执行过任务时返回 null
+     */
+    public MergeProgress getProgress(String pathname) {
+        MaintenanceTask task = tasks.get(pathname);
+        return task == null ? null : task.snapshot(indexWriterRegistry.getIfOpen(pathname));
+    }
+
+    private CompletableFuture<MergeProgress> submit(String pathname, String operation, int maxSegments) {
+        synchronized (tasks) {
+            MaintenanceTask running = tasks.get(pathname);
+            if (running != null && !running.future.isDone()) {
+                return running.future;
+            }
+            MaintenanceTask task = new MaintenanceTask(pathname, operation, maxSegments);
+            try {
+                maintenanceExecutor.execute(() -> run(task));
+            } catch (RejectedExecutionException e) {
+                task.future.completeExceptionally(e);
+                return task.future;
+            }
+            tasks.put(pathname, task);
+            return task.future;
+        }
+    }
+
+    private void run(MaintenanceTask task) {
+        String pathname = task.pathname;
+        try {
+            IndexWriter writer = indexWriterRegistry.getWriter(pathname);
+            task.start(writer);
+            // 合并耗时由写入器的合并调度器按每次合并记录
+            if (task.maxSegments > 0) {
+                writer.forceMerge(task.maxSegments);
+            } else {
+                writer.forceMergeDeletes();
+            }
+            indexCommitScheduler.commit(pathname);
+            indexSearcherRegistry.markChanged(pathname);
+            task.finish(writer, null);
+            MergeProgress progress = task.snapshot(writer);
+            log.info("Easy Lucene {} [{}] Deleted Docs [{} -> {}] Cost Time [{}ms]", task.operation, pathname,
+                    progress.getDeletedDocsBefore(), progress.getDeletedDocs(), progress.getEndTime() - progress.getStartTime());
+            task.future.complete(progress);
+        } catch (Throwable e) {
+            log.error("Easy Lucene {} [{}] Failed", task.operation, pathname, e);
+            task.finish(indexWriterRegistry.getIfOpen(pathname), e);
+            task.future.completeExceptionally(e);
+        }
+    }
+
+    private void checkAll() {
+        double pctAllowed = easyLuceneProperties.getMerge_deletes_pct_allowed();
+        for (String pathname : indexWriterRegistry.getPathnames()) {
+            IndexWriter writer = indexWriterRegistry.getIfOpen(pathname);
+            if (writer == null) {
+                continue;
+            }
+            int maxDoc = writer.maxDoc();
+            int deletedDocs = maxDoc - writer.numDocs();
+            if (maxDoc > 0 && deletedDocs * 100d / maxDoc >= pctAllowed) {
+                expungeDeletes(pathname);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (maintenanceExecutor != null) {
+            maintenanceExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 维护任务及其进度
+     */
+    private static class MaintenanceTask {
+        private final String pathname;
+        private final String operation;
+        private final int maxSegments;
+        private final CompletableFuture<MergeProgress> future = new CompletableFuture<>();
+        private volatile String status = MergeProgress.STATUS_RUNNING;
+        private volatile int deletedDocsBefore;
+        private volatile int maxDocBefore;
+        private volatile int deletedDocs;
+        private volatile int maxDoc;
+        private volatile long startTime = System.currentTimeMillis();
+        private volatile long endTime;
+        private volatile String error;
+
+        private MaintenanceTask(String pathname, String operation, int maxSegments) {
+            this.pathname = pathname;
+            this.operation = operation;
+            this.maxSegments = maxSegments;
+        }
+
+        private void start(IndexWriter writer) {
+            startTime = System.currentTimeMillis();
+            maxDocBefore = writer.maxDoc();
+            deletedDocsBefore = maxDocBefore - writer.numDocs();
+            maxDoc = maxDocBefore;
+            deletedDocs = deletedDocsBefore;
+        }
+
+        private void finish(IndexWriter writer, Throwable e) {
+            if (writer != null) {
+                maxDoc = writer.maxDoc();
+                deletedDocs = maxDoc - writer.numDocs();
+            }
+            endTime = System.currentTimeMillis();
+            if (e != null) {
+                error = String.valueOf(e.getMessage());
+            }
+            status = e == null ? MergeProgress.STATUS_COMPLETED : MergeProgress.STATUS_FAILED;
+        }
+
+        private MergeProgress snapshot(IndexWriter writer) {
+            MergeProgress progress = new MergeProgress();
+            progress.setPathname(pathname);
+            progress.setOperation(operation);
+            progress.setStatus(status);
+            progress.setDeletedDocsBefore(deletedDocsBefore);
+            progress.setMaxDocBefore(maxDocBefore);
+            if (MergeProgress.STATUS_RUNNING.equals(status) && writer != null) {
+                // 执行中实时读取写入器
+                progress.setMaxDoc(writer.maxDoc());
+                progress.setDeletedDocs(progress.getMaxDoc() - writer.numDocs());
+            } else {
+                progress.setMaxDoc(maxDoc);
+                progress.setDeletedDocs(deletedDocs);
+            }
+            progress.setStartTime(startTime);
+            progress.setEndTime(endTime);
+            progress.setError(error);
+            return progress;
+        }
+    }
+}
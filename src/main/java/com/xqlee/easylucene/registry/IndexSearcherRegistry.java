@@ -0,0 +1,460 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xqlee.easylucene.registry;
+
+import com.xqlee.easylucene.autoconfigure.EasyLuceneProperties;
+import com.xqlee.easylucene.metrics.EasyLuceneMetrics;
+import com.xqlee.easylucene.warmup.IndexWarmer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.MultiReader;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LRUQueryCache;
+import org.apache.lucene.search.QueryCachingPolicy;
+import org.apache.lucene.search.ReferenceManager;
+import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.UsageTrackingQueryCachingPolicy;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 查询器注册中心
+ * 每个索引路径维护一个 SearcherManager，查询复用已打开的 Reader，仅在索引变化时重新打开变化的段
+ * 若该路径的写入器已由 {@link IndexWriterRegistry} 打开，则基于写入器打开近实时(NRT) Reader
+ * 使用方式: acquire 获取查询器，使用完毕后必须 release 归还
+ */
+@Slf4j
+@Component
+public class IndexSearcherRegistry implements DisposableBean, SmartInitializingSingleton {
+
+    /** usage_tracking 策略记录的最近查询数 **/
+    private static final int FILTER_CACHE_HISTORY_SIZE = 256;
+
+    @Resource
+    EasyLuceneProperties easyLuceneProperties;
+
+    @Resource
+    IndexWriterRegistry indexWriterRegistry;
+
+    @Resource
+    DirectoryRegistry directoryRegistry;
+
+    @Resource
+    EasyLuceneMetrics easyLuceneMetrics;
+
+    @Resource
+    IndexWarmer indexWarmer;
+
+    /** 路径 -> 查询器管理 **/
+    private final Map<String, SearcherHolder> holders = new ConcurrentHashMap<>();
+
+    /** 路径 -> 最早一次未刷新变更的时间(纳秒)，0 表示无待刷新变更 **/
+    private final Map<String, AtomicLong> changedSince = new ConcurrentHashMap<>();
+
+    /** 后台刷新调度器 **/
+    private ScheduledExecutorService refreshScheduler;
+
+    /** 所有路径共用的过滤缓存，策略为 none 时为空 **/
+    private LRUQueryCache filterCache;
+
+    /** 过滤缓存策略 **/
+    private QueryCachingPolicy filterCachePolicy;
+
+    /** 并行查询线程池，未开启时为空 **/
+    private ThreadPoolExecutor searchExecutor;
+
+    /**
+     * 启动后台刷新任务
+     */
+    @PostConstruct
+    public void init() {
+        initFilterCache();
+        initSearchExecutor();
+        long interval = easyLuceneProperties.getRefresh_interval_ms();
+        if (interval <= 0) {
+            log.info("Easy Lucene Searcher Background Refresh Disabled");
+            return;
+        }
+        refreshScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "easy-lucene-searcher-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refreshScheduler.scheduleWithFixedDelay(this::refreshAll, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("Easy Lucene Searcher Background Refresh Interval [{}ms]", interval);
+    }
+
+    /**
+     * 应用启动时打开并预热 warmup_paths 中的路径，索引尚不存在的路径跳过
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String pathname : easyLuceneProperties.getWarmup_paths()) {
+            try {
+                getManager(pathname);
+            } catch (Exception e) {
+                log.warn("Easy Lucene Warmup [{}] Skipped: {}", pathname, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 获取查询器(引用计数+1)，使用完毕后必须调用 release
+     * @param pathname 存入时候的路径
+     * @return 查询器
+     * @throws IOException 索引不存在或打开失败
+     */
+    public IndexSearcher acquire(String pathname) throws IOException {
+        SearcherManager manager = getManager(pathname);
+        if (refreshScheduler == null) {
+            // 未开启后台刷新，查询前检查一次
+            manager.maybeRefresh();
+        }
+        return manager.acquire();
+    }
+
+    /**
+     * 获取多个路径的联合查询器(引用计数+1)，使用完毕后同样调用 release 归还
+     * 联合查询器基于各路径当前查询器的 MultiReader，文档号按路径顺序连续编排；全部路径开启并行查询时并行检索
+     * @param pathnames 存入时候的路径，不能重复
+     * @return 查询器
+     * @throws IOException 任一路径索引不存在或打开失败
+     */
+    public IndexSearcher acquire(List<String> pathnames) throws IOException {
+        IndexSearcher[] acquired = new IndexSearcher[pathnames.size()];
+        try {
+            IndexReader[] readers = new IndexReader[pathnames.size()];
+            boolean parallel = true;
+            for (int i = 0; i < readers.length; i++) {
+                acquired[i] = acquire(pathnames.get(i));
+                readers[i] = acquired[i].getIndexReader();
+                parallel &= isParallel(pathnames.get(i));
+            }
+            // MultiReader 自行持有各子 Reader 的引用，归还联合查询器(关闭 MultiReader)时释放
+            return createSearcher(new MultiReader(readers, false), parallel);
+        } finally {
+            for (int i = 0; i < acquired.length; i++) {
+                release(pathnames.get(i), acquired[i]);
+            }
+        }
+    }
+
+    /**
+     * 归还查询器(引用计数-1)
+     * @param pathname 存入时候的路径
+     * @param indexSearcher 查询器，为空时忽略
+     */
+    public void release(String pathname, IndexSearcher indexSearcher) {
+        if (indexSearcher == null) {
+            return;
+        }
+        try {
+            // 与 SearcherManager.release 等价，管理器切换或关闭后同样适用
+            indexSearcher.getIndexReader().decRef();
+        } catch (IOException e) {
+            log.error("Easy Lucene Release Searcher [{}] Failed", pathname, e);
+        }
+    }
+
+    /**
+     * 立即刷新指定路径的查询器，使最新提交可见
+     * @param pathname 存入时候的路径
+     * @throws IOException 刷新失败
+     */
+    public void refresh(String pathname) throws IOException {
+        SearcherHolder holder = holders.get(pathname);
+        if (holder != null) {
+            holder.manager.maybeRefreshBlocking();
+        }
+    }
+
+    /**
+     * 登记索引变更，用于统计变更到对查询可见的刷新延迟
+     * @param pathname 存入时候的路径
+     */
+    public void markChanged(String pathname) {
+        changedSince.computeIfAbsent(pathname, k -> new AtomicLong()).compareAndSet(0, System.nanoTime());
+    }
+
+    /**
+     * 共用的过滤缓存，可获取命中/未命中次数等统计
+     * @return 过滤缓存，策略为 none 时为空
+     */
+    public LRUQueryCache getFilterCache() {
+        return filterCache;
+    }
+
+    private void initFilterCache() {
+        String policy = easyLuceneProperties.getFilter_cache_policy();
+        if (EasyLuceneProperties.FILTER_CACHE_POLICY_NONE.equalsIgnoreCase(policy)) {
+            log.info("Easy Lucene Filter Cache Disabled");
+            return;
+        }
+        filterCache = new LRUQueryCache(easyLuceneProperties.getFilter_cache_max_queries(),
+                easyLuceneProperties.getFilter_cache_max_ram_mb() * 1024L * 1024L);
+        if (EasyLuceneProperties.FILTER_CACHE_POLICY_ALWAYS.equalsIgnoreCase(policy)) {
+            filterCachePolicy = QueryCachingPolicy.ALWAYS_CACHE;
+        } else {
+            filterCachePolicy = new UsageTrackingQueryCachingPolicy(easyLuceneProperties.getFilter_cache_min_segment_docs(),
+                    easyLuceneProperties.getFilter_cache_min_segment_ratio(), FILTER_CACHE_HISTORY_SIZE);
+        }
+        log.info("Easy Lucene Filter Cache Policy [{}] Max Queries [{}] Max RAM [{}MB]", policy,
+                easyLuceneProperties.getFilter_cache_max_queries(), easyLuceneProperties.getFilter_cache_max_ram_mb());
+    }
+
+    private void initSearchExecutor() {
+        int threads = easyLuceneProperties.getSearch_threads();
+        if (threads <= 0) {
+            return;
+        }
+        AtomicInteger index = new AtomicInteger();
+        searchExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(Math.max(easyLuceneProperties.getSearch_queue_capacity(), 1)), r -> {
+            Thread thread = new Thread(r, "easy-lucene-search-" + index.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+        log.info("Easy Lucene Parallel Search Threads [{}] Paths {}", threads,
+                easyLuceneProperties.getSearch_parallel_paths().isEmpty() ? "[*]" : easyLuceneProperties.getSearch_parallel_paths());
+    }
+
+    private boolean isParallel(String pathname) {
+        List<String> paths = easyLuceneProperties.getSearch_parallel_paths();
+        return searchExecutor != null && (paths.isEmpty() || paths.contains(pathname));
+    }
+
+    private SearcherManager getManager(String pathname) throws IOException {
+        IndexWriter writer = indexWriterRegistry.getIfOpen(pathname);
+        SearcherHolder holder = holders.get(pathname);
+        if (holder != null && holder.writer == writer) {
+            return holder.manager;
+        }
+        synchronized (holders) {
+            holder = holders.get(pathname);
+            if (holder != null && holder.writer == writer) {
+                return holder.manager;
+            }
+            // 首次打开，或写入器已打开/重开，切换为对应的查询器管理
+            SearcherHolder opened = openHolder(pathname, writer);
+            holders.put(pathname, opened);
+            if (holder != null) {
+                // 正在使用的查询器持有独立引用，关闭旧管理器不影响其归还
+                holder.close(pathname);
+            }
+            log.info("Easy Lucene Searcher Opened [{}] NRT [{}]", pathname, writer != null);
+            return opened.manager;
+        }
+    }
+
+    private SearcherHolder openHolder(String pathname, IndexWriter writer) throws IOException {
+        SearcherHolder holder;
+        if (writer != null) {
+            holder = new SearcherHolder(new SearcherManager(writer, new CachingSearcherFactory(pathname)), writer);
+        } else {
+            holder = new SearcherHolder(new SearcherManager(directoryRegistry.getDirectory(pathname),
+                    new CachingSearcherFactory(pathname)), null);
+        }
+        holder.manager.addListener(new MetricsRefreshListener(pathname));
+        easyLuceneMetrics.bindSegmentCount(pathname, () -> segmentCount(pathname));
+        return holder;
+    }
+
+    private Number segmentCount(String pathname) {
+        SearcherHolder holder = holders.get(pathname);
+        if (holder == null) {
+            return 0;
+        }
+        IndexSearcher indexSearcher = null;
+        try {
+            indexSearcher = holder.manager.acquire();
+            return indexSearcher.getIndexReader().leaves().size();
+        } catch (Exception e) {
+            return 0;
+        } finally {
+            release(pathname, indexSearcher);
+        }
+    }
+
+    private void refreshAll() {
+        for (Map.Entry<String, SearcherHolder> entry : holders.entrySet()) {
+            try {
+                entry.getValue().manager.maybeRefresh();
+            } catch (Exception e) {
+                log.error("Easy Lucene Refresh Searcher [{}] Failed", entry.getKey(), e);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (refreshScheduler != null) {
+            refreshScheduler.shutdownNow();
+        }
+        for (Map.Entry<String, SearcherHolder> entry : holders.entrySet()) {
+            entry.getValue().close(entry.getKey());
+        }
+        holders.clear();
+        if (searchExecutor != null) {
+            searchExecutor.shutdown();
+        }
+    }
+
+    /**
+     * 新打开的查询器使用共用的过滤缓存与缓存策略，开启并行查询的路径使用共用线程池，发布前先预热
+     */
+    private class CachingSearcherFactory extends SearcherFactory {
+
+        private final String pathname;
+
+        private CachingSearcherFactory(String pathname) {
+            this.pathname = pathname;
+        }
+
+        @Override
+        public IndexSearcher newSearcher(IndexReader reader, IndexReader previousReader) {
+            IndexSearcher indexSearcher = createSearcher(reader, isParallel(pathname));
+            try {
+                indexWarmer.warm(pathname, indexSearcher, previousReader);
+            } catch (Exception e) {
+                // 预热失败不影响查询器发布
+                log.error("Easy Lucene Warmup [{}] Failed", pathname, e);
+            }
+            return indexSearcher;
+        }
+    }
+
+    private IndexSearcher createSearcher(IndexReader reader, boolean parallel) {
+        IndexSearcher indexSearcher = parallel ? new SlicedIndexSearcher(reader, searchExecutor) : new IndexSearcher(reader);
+        indexSearcher.setQueryCache(filterCache);
+        if (filterCachePolicy != null) {
+            indexSearcher.setQueryCachingPolicy(filterCachePolicy);
+        }
+        return indexSearcher;
+    }
+
+    /**
+     * 按相邻段分组切片的查询器，切片保持段顺序，合并结果时同分文档仍按文档号排序
+     */
+    private class SlicedIndexSearcher extends IndexSearcher {
+
+        private SlicedIndexSearcher(IndexReader reader, ExecutorService executor) {
+            super(reader, executor);
+        }
+
+        @Override
+        protected LeafSlice[] slices(List<LeafReaderContext> leaves) {
+            // 父类构造时调用，只能使用外部类的配置
+            long sliceDocs = easyLuceneProperties.getSearch_slice_docs();
+            int maxSegments = Math.max(easyLuceneProperties.getSearch_slice_max_segments(), 1);
+            List<LeafSlice> slices = new ArrayList<>();
+            List<LeafReaderContext> group = new ArrayList<>();
+            long docs = 0;
+            for (LeafReaderContext leaf : leaves) {
+                group.add(leaf);
+                docs += leaf.reader().maxDoc();
+                if (docs >= sliceDocs || group.size() >= maxSegments) {
+                    slices.add(new LeafSlice(group.toArray(new LeafReaderContext[0])));
+                    group.clear();
+                    docs = 0;
+                }
+            }
+            if (!group.isEmpty()) {
+                slices.add(new LeafSlice(group.toArray(new LeafReaderContext[0])));
+            }
+            return slices.toArray(new LeafSlice[0]);
+        }
+    }
+
+    /**
+     * 记录刷新耗时及变更到可见的延迟
+     */
+    private class MetricsRefreshListener implements ReferenceManager.RefreshListener {
+
+        private final String pathname;
+        /** 刷新由 SearcherManager 串行执行，无需同步 **/
+        private long refreshStart;
+        private long refreshChangedSince;
+
+        private MetricsRefreshListener(String pathname) {
+            this.pathname = pathname;
+        }
+
+        @Override
+        public void beforeRefresh() {
+            refreshStart = System.nanoTime();
+            AtomicLong since = changedSince.get(pathname);
+            refreshChangedSince = since == null ? 0 : since.getAndSet(0);
+        }
+
+        @Override
+        public void afterRefresh(boolean didRefresh) {
+            long now = System.nanoTime();
+            if (!didRefresh) {
+                if (refreshChangedSince > 0) {
+                    // 变更尚未可见，留待下次刷新统计
+                    changedSince.get(pathname).compareAndSet(0, refreshChangedSince);
+                }
+                return;
+            }
+            long lag = refreshChangedSince > 0 ? now - refreshChangedSince : -1;
+            easyLuceneMetrics.recordRefresh(pathname, now - refreshStart, lag);
+        }
+    }
+
+    /**
+     * 查询器管理及其来源
+     */
+    private static class SearcherHolder {
+        /** 查询器管理 **/
+        private final SearcherManager manager;
+        /** 来源写入器，非 NRT 模式为空 **/
+        private final IndexWriter writer;
+
+        private SearcherHolder(SearcherManager manager, IndexWriter writer) {
+            this.manager = manager;
+            this.writer = writer;
+        }
+
+        private void close(String pathname) {
+            try {
+                manager.close();
+            } catch (IOException e) {
+                log.error("Easy Lucene Close Searcher [{}] Failed", pathname, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xqlee.easylucene.registry;
+
+import com.xqlee.easylucene.autoconfigure.AnalyzerProvider;
+import com.xqlee.easylucene.autoconfigure.EasyLuceneProperties;
+import com.xqlee.easylucene.metrics.EasyLuceneMetrics;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.index.ConcurrentMergeScheduler;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.index.TieredMergePolicy;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 写入器注册中心
+ * 每个索引路径在应用生命周期内只保持一个 IndexWriter，写锁由本组件统一持有，应用关闭时提交并释放
+ * 查询端通过 {@link #getIfOpen(String)} 获取写入器打开近实时(NRT) Reader，无需等待提交即可看到最新写入
+ */
+@Slf4j
+@Component
+public class IndexWriterRegistry implements DisposableBean {
+
+    @Resource
+    EasyLuceneProperties easyLuceneProperties;
+
+    @Resource
+    AnalyzerProvider analyzerProvider;
+
+    @Resource
+    DirectoryRegistry directoryRegistry;
+
+    @Resource
+    EasyLuceneMetrics easyLuceneMetrics;
+
+    /** 路径 -> 写入器 **/
+    private final Map<String, IndexWriter> writers = new ConcurrentHashMap<>();
+
+    /**
+     * 获取写入器，不存在时打开(创建或追加)，写入器由注册中心管理，调用方不得关闭
+     * @param pathname 存入时候的路径
+     * @return 写入器
+     * @throws IOException 打开失败(如写锁被其他进程占用)
+     */
+    public IndexWriter getWriter(String pathname) throws IOException {
+        IndexWriter writer = writers.get(pathname);
+        if (writer != null && writer.isOpen()) {
+            return writer;
+        }
+        synchronized (writers) {
+            writer = writers.get(pathname);
+            if (writer == null || !writer.isOpen()) {
+                if (writer != null) {
+                    // 写入器因异常已关闭，在同一目录上重新打开
+                    log.warn("Easy Lucene Writer [{}] Closed, Reopen", pathname, writer.getTragicException());
+                }
+                writer = openWriter(pathname);
+                writers.put(pathname, writer);
+                log.info("Easy Lucene Writer Opened [{}]", pathname);
+            }
+            return writer;
+        }
+    }
+
+    /**
+     * 获取已打开的写入器，不会触发打开
+     * @param pathname 存入时候的路径
+     * @return 写入器，未打开时返回 null
+     */
+    public IndexWriter getIfOpen(String pathname) {
+        IndexWriter writer = writers.get(pathname);
+        if (writer != null && writer.isOpen()) {
+            return writer;
+        }
+        return null;
+    }
+
+    /**
+     * 已打开写入器的路径
+     * @return 路径
+     */
+    public Set<String> getPathnames() {
+        return writers.keySet();
+    }
+
+    /**
+     * 提交指定路径的写入器
+     * @param pathname 存入时候的路径
+     * @throws IOException 提交失败
+     */
+    public void commit(String pathname) throws IOException {
+        IndexWriter writer = getIfOpen(pathname);
+        if (writer != null) {
+            writer.commit();
+        }
+    }
+
+    private IndexWriter openWriter(String pathname) throws IOException {
+        IndexWriterConfig config = new IndexWriterConfig(analyzerProvider.getAnalyzer());
+        config.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        config.setRAMBufferSizeMB(easyLuceneProperties.getRam_buffer_size());
+        config.setMergePolicy(newMergePolicy());
+        config.setMergeScheduler(newMergeScheduler(pathname));
+        return new IndexWriter(directoryRegistry.getDirectory(pathname), config);
+    }
+
+    private TieredMergePolicy newMergePolicy() {
+        TieredMergePolicy mergePolicy = new TieredMergePolicy();
+        mergePolicy.setMaxMergedSegmentMB(easyLuceneProperties.getMerge_max_merged_segment_mb());
+        mergePolicy.setSegmentsPerTier(easyLuceneProperties.getMerge_segments_per_tier());
+        mergePolicy.setMaxMergeAtOnce(easyLuceneProperties.getMerge_max_merge_at_once());
+        mergePolicy.setFloorSegmentMB(easyLuceneProperties.getMerge_floor_segment_mb());
+        mergePolicy.setForceMergeDeletesPctAllowed(easyLuceneProperties.getMerge_deletes_pct_allowed());
+        return mergePolicy;
+    }
+
+    private ConcurrentMergeScheduler newMergeScheduler(String pathname) {
+        ConcurrentMergeScheduler mergeScheduler = new EasyMergeScheduler(pathname, easyLuceneMetrics,
+                easyLuceneProperties.isMerge_low_priority());
+        int maxThreads = easyLuceneProperties.getMerge_max_threads();
+        if (maxThreads > 0) {
+            int maxMergeCount = easyLuceneProperties.getMerge_max_merge_count();
+            mergeScheduler.setMaxMergesAndThreads(Math.max(maxMergeCount > 0 ? maxMergeCount : maxThreads + 5, maxThreads),
+                    maxThreads);
+        }
+        if (!easyLuceneProperties.isMerge_auto_io_throttle()) {
+            mergeScheduler.disableAutoIOThrottle();
+        }
+        if (easyLuceneProperties.getMerge_force_mb_per_sec() > 0) {
+            mergeScheduler.setForceMergeMBPerSec(easyLuceneProperties.getMerge_force_mb_per_sec());
+        }
+        return mergeScheduler;
+    }
+
+    @Override
+    public void destroy() {
+        for (Map.Entry<String, IndexWriter> entry : writers.entrySet()) {
+            IndexWriter writer = entry.getValue();
+            try {
+                // close 默认提交未提交的变更，目录由 DirectoryRegistry 关闭
+                writer.close();
+            } catch (IOException e) {
+                log.error("Easy Lucene Close Writer [{}] Failed", entry.getKey(), e);
+            }
+        }
+        writers.clear();
+    }
+
+    /**
+     * 合并线程命名为 easy-lucene-merge-N，可选低优先级，避免合并与查询线程争抢CPU
+     * 每次合并(后台合并与强制合并)记录合并耗时
+     */
+    private static class EasyMergeScheduler extends ConcurrentMergeScheduler {
+
+        private final String pathname;
+        private final EasyLuceneMetrics easyLuceneMetrics;
+        private final boolean lowPriority;
+
+        private EasyMergeScheduler(String pathname, EasyLuceneMetrics easyLuceneMetrics, boolean lowPriority) {
+            this.pathname = pathname;
+            this.easyLuceneMetrics = easyLuceneMetrics;
+            this.lowPriority = lowPriority;
+        }
+
+        @Override
+        protected void doMerge(IndexWriter writer, MergePolicy.OneMerge merge) throws IOException {
+            long startTime = System.nanoTime();
+            try {
+                super.doMerge(writer, merge);
+            } finally {
+                easyLuceneMetrics.recordMerge(pathname, System.nanoTime() - startTime);
+            }
+        }
+
+        @Override
+        protected synchronized MergeThread getMergeThread(IndexWriter writer, MergePolicy.OneMerge merge) throws IOException {
+            MergeThread thread = super.getMergeThread(writer, merge);
+            thread.setName("easy-lucene-merge-" + mergeThreadCount);
+            if (lowPriority) {
+                thread.setPriority(Thread.MIN_PRIORITY);
+            }
+            return thread;
+        }
+    }
+}
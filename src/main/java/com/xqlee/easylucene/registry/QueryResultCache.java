@@ -0,0 +1,220 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.xqlee.easylucene.registry;
+
+import com.xqlee.easylucene.autoconfigure.EasyLuceneProperties;
+import com.xqlee.easylucene.metrics.EasyLuceneMetrics;
+import com.xqlee.easylucene.model.SearchResult;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 查询结果缓存
+ * 按查询条件缓存整页结果(含高亮)，容量按 query_cache_size 做 LRU 淘汰，超过 query_cache_ttl_ms 过期；
+ * 缓存项记录生成时查询器的索引版本，索引刷新/提交后版本变化，旧结果自动失效
+ * query_cache_size 小于等于0时不缓存
+ */
+@Slf4j
+@Component
+public class QueryResultCache {
+
+    @Resource
+    EasyLuceneProperties easyLuceneProperties;
+
+    @Resource
+    EasyLuceneMetrics easyLuceneMetrics;
+
+    /** 查询条件 -> 缓存项，访问顺序 **/
+    private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * 是否开启缓存
+     * @return query_cache_size 大于0
+     */
+    public boolean isEnabled() {
+        return easyLuceneProperties.getQuery_cache_size() > 0;
+    }
+
+    /**
+     * 获取缓存结果
+     * @param pathname 存入时候的路径
+     * @param key 查询条件(需实现 equals/hashCode)
+     * @param version 当前查询器的索引版本
+     * @return 结果副本，未命中返回空
+     */
+    public SearchResult get(String pathname, Object key, long version) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry != null && (entry.version != version || entry.isExpired(System.nanoTime()))) {
+                entries.remove(key);
+                evictions.increment();
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.increment();
+            easyLuceneMetrics.recordQueryCache(pathname, false);
+            return null;
+        }
+        hits.increment();
+        easyLuceneMetrics.recordQueryCache(pathname, true);
+        return copy(entry.result);
+    }
+
+    /**
+     * 缓存结果
+     * @param pathname 存入时候的路径
+     * @param key 查询条件(需实现 equals/hashCode)
+     * @param version 生成结果时查询器的索引版本
+     * @param result 查询结果
+     */
+    public void put(String pathname, Object key, long version, SearchResult result) {
+        int maxSize = easyLuceneProperties.getQuery_cache_size();
+        if (maxSize <= 0) {
+            return;
+        }
+        long ttl = easyLuceneProperties.getQuery_cache_ttl_ms();
+        long expireAt = ttl > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ttl) : 0;
+        Entry entry = new Entry(pathname, version, expireAt, copy(result));
+        synchronized (entries) {
+            entries.put(key, entry);
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (entries.size() > maxSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * 清除指定路径的缓存
+     * @param pathname 存入时候的路径
+     */
+    public void invalidate(String pathname) {
+        synchronized (entries) {
+            entries.values().removeIf(entry -> entry.pathname.equals(pathname));
+        }
+    }
+
+    /**
+     * 清除全部缓存
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * 命中次数
+     * @return 次数
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * 未命中次数
+     * @return 次数
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 淘汰(容量、过期、索引版本变化)次数
+     * @return 次数
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * 命中率
+     * @return 0~1，无请求时为0
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * 当前缓存数量
+     * @return 数量
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * 复制结果，调用方修改结果不影响缓存
+     */
+    private static SearchResult copy(SearchResult source) {
+        SearchResult result = new SearchResult();
+        result.setCurrentPage(source.getCurrentPage());
+        result.setPageSize(source.getPageSize());
+        result.setTotal(source.getTotal());
+        result.setCursor(source.getCursor());
+        List<Map<String, String>> rows = new ArrayList<>(source.getRows().size());
+        for (Map<String, String> row : source.getRows()) {
+            rows.add(new HashMap<>(row));
+        }
+        result.setRows(rows);
+        return result;
+    }
+
+    /**
+     * 缓存项
+     */
+    private static class Entry {
+        private final String pathname;
+        private final long version;
+        /** 过期时间(纳秒)，0 不过期 **/
+        private final long expireAt;
+        private final SearchResult result;
+
+        private Entry(String pathname, long version, long expireAt, SearchResult result) {
+            this.pathname = pathname;
+            this.version = version;
+            this.expireAt = expireAt;
+            this.result = result;
+        }
+
+        private boolean isExpired(long now) {
+            return expireAt != 0 && now - expireAt > 0;
+        }
+    }
+}
@@ -16,11 +16,16 @@
 
 package com.xqlee.easylucene.service;
 
+import com.xqlee.easylucene.model.FieldProjection;
 import com.xqlee.easylucene.model.SearchField;
+import com.xqlee.easylucene.model.SearchRange;
 import com.xqlee.easylucene.model.SearchResult;
+import com.xqlee.easylucene.model.SearchSort;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
 
 import java.util.List;
+import java.util.function.BooleanSupplier;
 
 public interface EasyLuceneQueryService {
 
@@ -35,6 +40,17 @@ public interface EasyLuceneQueryService {
     SearchResult queryOneField(int currentPage, int pageSize, SearchField searchField ,
                                String pathname);
 
+    /**
+     * 最基本查询(游标分页),查询分词字段-查询值
+     * @param cursor 上一页返回的游标 {@link SearchResult#getCursor()}，为空时查询第一页
+     * @param pageSize 分页大小
+     * @param searchField 查询字段
+     * @param pathname 存入时候的路径
+     * @return 查询结果
+     * @throws IllegalArgumentException 游标格式错误或与当前排序方式不一致
+     */
+    SearchResult queryOneField(String cursor, int pageSize, SearchField searchField, String pathname);
+
     /**
      * 多字段查询
      * @param currentPage 当前页码，默认1，从1开始
@@ -45,8 +61,48 @@ public interface EasyLuceneQueryService {
      */
     SearchResult queryMultiField(int currentPage, int pageSize, List<SearchField> searchFields, String pathname);
 
+    /**
+     * 多字段查询(游标分页)
+     * @param cursor 上一页返回的游标 {@link SearchResult#getCursor()}，为空时查询第一页
+     * @param pageSize 分页大小
+     * @param searchFields 查询字段
+     * @param pathname 存入时候的路径
+     * @return 查询结果
+     * @throws IllegalArgumentException 游标格式错误或与当前排序方式不一致
+     */
+    SearchResult queryMultiField(String cursor, int pageSize, List<SearchField> searchFields, String pathname);
+
+    /**
+     * 多字段查询，支持范围过滤与排序
+     * @param currentPage 当前页码，默认1，从1开始
+     * @param pageSize 分页大小
+     * @param searchFields 查询字段，可为空(仅按范围过滤)
+     * @param ranges 范围过滤条件(不参与评分)，可为空
+     * @param sorts 排序条件(按 DocValues 排序)，为空时按相关度排序
+     * @param pathname 存入时候的路径
+     * @return 查询结果
+     */
+    SearchResult queryMultiField(int currentPage, int pageSize, List<SearchField> searchFields,
+                                 List<SearchRange> ranges, List<SearchSort> sorts, String pathname);
+
+    /**
+     * 多字段查询，支持范围过滤、排序与返回字段投影
+     * @param currentPage 当前页码，默认1，从1开始
+     * @param pageSize 分页大小
+     * @param searchFields 查询字段，可为空(仅按范围过滤)
+     * @param ranges 范围过滤条件(不参与评分)，可为空
+     * @param sorts 排序条件(按 DocValues 排序)，为空时按相关度排序
+     * @param projection 返回字段投影，为空时返回全部存储字段
+     * @param pathname 存入时候的路径
+     * @return 查询结果
+     */
+    SearchResult queryMultiField(int currentPage, int pageSize, List<SearchField> searchFields,
+                                 List<SearchRange> ranges, List<SearchSort> sorts, FieldProjection projection,
+                                 String pathname);
+
     /**
      * 多字段查询
+     * 与 {@link #queryMultiField(int, int, List, String)} 一致: baseQuery(含 {@link SearchField#filter(String, String)})字段不分词精确匹配，其余字段通过 QueryParser 解析
      * @param currentPage 当前页码，默认1，从1开始
      * @param pageSize 分页大小
      * @param pathname 存入时候的路径
@@ -79,4 +135,130 @@ public interface EasyLuceneQueryService {
      */
     SearchResult query(int currentPage, int pageSize, Query query, List<String> highlightFieldNames,float scoreThreshold, String pathname);
 
+    /**
+     * Query 条件查询(游标分页)
+     * @param cursor 上一页返回的游标 {@link SearchResult#getCursor()}，为空时查询第一页
+     * @param pageSize 分页大小
+     * @param query 条件 ，（条件值注意 转义字符处理 QueryParser.escape(this.value);）
+     * @param highlightFieldNames 高亮字段
+     * @param scoreThreshold 评分最低阈值
+     * @param pathname 存入时候的路径
+     * @return 查询结果
+     * @throws IllegalArgumentException 游标格式错误或与当前排序方式不一致
+     */
+    SearchResult query(String cursor, int pageSize, Query query, List<String> highlightFieldNames, float scoreThreshold, String pathname);
+
+    /**
+     * Query 条件查询，按字段排序
+     * @param currentPage 当前页码，默认1，从1开始
+     * @param pageSize 分页大小
+     * @param query 条件 ，（条件值注意 转义字符处理 QueryParser.escape(this.value);）
+     * @param sort 排序(字段需开启 docValues)，为空时按相关度排序，可由 {@link SearchSort#toSort(List)} 构建
+     * @param highlightFieldNames 高亮字段
+     * @param pathname 存入时候的路径
+     * @return 查询结果
+     */
+    SearchResult query(int currentPage, int pageSize, Query query, Sort sort, List<String> highlightFieldNames, String pathname);
+
+    /**
+     * Query 条件查询，按字段排序(游标分页)
+     * @param cursor 上一页返回的游标 {@link SearchResult#getCursor()}，为空时查询第一页，翻页时排序需保持一致
+     * @param pageSize 分页大小
+     * @param query 条件 ，（条件值注意 转义字符处理 QueryParser.escape(this.value);）
+     * @param sort 排序(字段需开启 docValues)，为空时按相关度排序
+     * @param highlightFieldNames 高亮字段
+     * @param pathname 存入时候的路径
+     * @return 查询结果
+     * @throws IllegalArgumentException 游标格式错误或与当前排序方式不一致
+     */
+    SearchResult query(String cursor, int pageSize, Query query, Sort sort, List<String> highlightFieldNames, String pathname);
+
+    /**
+     * Query 条件查询，按字段排序并只返回投影字段
+     * @param currentPage 当前页码，默认1，从1开始
+     * @param pageSize 分页大小
+     * @param query 条件 ，（条件值注意 转义字符处理 QueryParser.escape(this.value);）
+     * @param sort 排序(字段需开启 docValues)，为空时按相关度排序
+     * @param highlightFieldNames 高亮字段(自动加入投影)
+     * @param projection 返回字段投影，为空时返回全部存储字段
+     * @param pathname 存入时候的路径
+     * @return 查询结果
+     */
+    SearchResult query(int currentPage, int pageSize, Query query, Sort sort, List<String> highlightFieldNames,
+                       FieldProjection projection, String pathname);
+
+    /**
+     * Query 条件查询，按字段排序并只返回投影字段(游标分页)
+     * @param cursor 上一页返回的游标 {@link SearchResult#getCursor()}，为空时查询第一页，翻页时排序需保持一致
+     * @param pageSize 分页大小
+     * @param query 条件 ，（条件值注意 转义字符处理 QueryParser.escape(this.value);）
+     * @param sort 排序(字段需开启 docValues)，为空时按相关度排序
+     * @param highlightFieldNames 高亮字段(自动加入投影)
+     * @param projection 返回字段投影，为空时返回全部存储字段
+     * @param pathname 存入时候的路径
+     * @return 查询结果
+     * @throws IllegalArgumentException 游标格式错误或与当前排序方式不一致
+     */
+    SearchResult query(String cursor, int pageSize, Query query, Sort sort, List<String> highlightFieldNames,
+                       FieldProjection projection, String pathname);
+
+    /**
+     * Query 条件查询，可在收集过程中取消
+     * @param currentPage 当前页码，默认1，从1开始
+     * @param pageSize 分页大小
+     * @param query 条件 ，（条件值注意 转义字符处理 QueryParser.escape(this.value);）
+     * @param sort 排序(字段需开启 docValues)，为空时按相关度排序
+     * @param highlightFieldNames 高亮字段(自动加入投影)
+     * @param projection 返回字段投影，为空时返回全部存储字段
+     * @param cancelled 取消状态，收集中检查，返回 true 时停止收集并返回空结果
+     * @param pathname 存入时候的路径
+     * @return 查询结果
+     */
+    SearchResult query(int currentPage, int pageSize, Query query, Sort sort, List<String> highlightFieldNames,
+                       FieldProjection projection, BooleanSupplier cancelled, String pathname);
+
+    /**
+     * Query 条件查询，可在收集过程中取消(游标分页)
+     * @param cursor 上一页返回的游标 {@link SearchResult#getCursor()}，为空时查询第一页，翻页时排序需保持一致
+     * @param pageSize 分页大小
+     * @param query 条件 ，（条件值注意 转义字符处理 QueryParser.escape(this.value);）
+     * @param sort 排序(字段需开启 docValues)，为空时按相关度排序
+     * @param highlightFieldNames 高亮字段(自动加入投影)
+     * @param projection 返回字段投影，为空时返回全部存储字段
+     * @param cancelled 取消状态，收集中检查，返回 true 时停止收集并返回空结果
+     * @param pathname 存入时候的路径
+     * @return 查询结果
+     * @throws IllegalArgumentException 游标格式错误或与当前排序方式不一致
+     */
+    SearchResult query(String cursor, int pageSize, Query query, Sort sort, List<String> highlightFieldNames,
+                       FieldProjection projection, BooleanSupplier cancelled, String pathname);
+
+    /**
+     * 多索引联合查询，多个路径作为一个索引统一排序、分页与高亮
+     * 每条记录附带文档所在路径 {@link com.xqlee.easylucene.model.Constants#Field_Index}(多个路径时)
+     * @param currentPage 当前页码，默认1，从1开始
+     * @param pageSize 分页大小
+     * @param query 条件 ，（条件值注意 转义字符处理 QueryParser.escape(this.value);）
+     * @param sort 排序(字段需开启 docValues)，为空时按相关度排序
+     * @param highlightFieldNames 高亮字段
+     * @param pathnames 存入时候的路径
+     * @return 查询结果
+     */
+    SearchResult queryIndexes(int currentPage, int pageSize, Query query, Sort sort, List<String> highlightFieldNames,
+                              List<String> pathnames);
+
+    /**
+     * 多索引联合查询(游标分页)，翻页时路径与排序需保持一致
+     * @param cursor 上一页返回的游标 {@link SearchResult#getCursor()}，为空时查询第一页
+     * @param pageSize 分页大小
+     * @param query 条件 ，（条件值注意 转义字符处理 QueryParser.escape(this.value);）
+     * @param sort 排序(字段需开启 docValues)，为空时按相关度排序
+     * @param highlightFieldNames 高亮字段
+     * @param pathnames 存入时候的路径
+     * @return 查询结果
+     * @throws IllegalArgumentException 游标格式错误或与当前排序方式不一致
+     */
+    SearchResult queryIndexes(String cursor, int pageSize, Query query, Sort sort, List<String> highlightFieldNames,
+                              List<String> pathnames);
+
 }
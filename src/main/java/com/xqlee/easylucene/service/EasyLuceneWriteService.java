@@ -16,11 +16,21 @@
 
 package com.xqlee.easylucene.service;
 
+import com.xqlee.easylucene.model.BatchResult;
 import com.xqlee.easylucene.model.IndexDoc;
+import com.xqlee.easylucene.model.IndexDocBatch;
 import com.xqlee.easylucene.model.IndexField;
+import com.xqlee.easylucene.model.MergeProgress;
+
+import org.apache.lucene.search.Query;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 public interface EasyLuceneWriteService {
 
@@ -28,14 +38,60 @@ public interface EasyLuceneWriteService {
 
     /**
      * 写索引
+     * 按 write_mode 写入: merge 支持字段独立分词器；concurrent 直接写入共享写入器，只能使用默认分词器，
+     * 含字段独立分词器(IndexField#analyzer)的批次自动使用 merge 写入
      *
      * @param documents 文档、多个
      * @param path 路径
      * @return 数量
-     * @throws IOException 异常
+     * @throws IOException 异常，concurrent 模式下任一线程写入失败时等待其余线程结束后抛出，不提交，已写入写入器的文档不回滚
      */
     int writeIndex(List<IndexDoc> documents, String path) throws IOException;
 
+    /**
+     * 流式写索引
+     * 按 stream_chunk_size 分块读取并由写入线程并发写入共享写入器，内存占用与文档总量无关，全部写入后提交一次
+     * 使用写入器默认分词器，不使用 IndexField 上配置的字段分词器
+     *
+     * @param documents 文档迭代器
+     * @param path 路径
+     * @return 数量
+     * @throws IOException 任一块写入失败时等待进行中的块结束后抛出，不提交，已写入写入器的文档不回滚
+     */
+    int writeIndex(Iterator<IndexDoc> documents, String path) throws IOException;
+
+    /**
+     * 流式写索引，见 {@link #writeIndex(Iterator, String)}，Spliterator 可通过 StreamSupport 转换为 Stream
+     *
+     * @param documents 文档流(由调用方关闭)
+     * @param path 路径
+     * @return 数量
+     * @throws IOException 异常
+     */
+    int writeIndex(Stream<IndexDoc> documents, String path) throws IOException;
+
+    /**
+     * 列式批量写索引
+     * 字段值按列存放，各写入线程复用文档模板直接写入共享写入器，全部写入后提交一次
+     *
+     * @param batch 列式批量文档
+     * @param path 路径
+     * @return 数量
+     * @throws IOException 任一区间写入失败时等待其余区间结束后抛出，不提交，已写入写入器的文档不回滚
+     */
+    int writeIndex(IndexDocBatch batch, String path) throws IOException;
+
+    /**
+     * 异步写索引
+     * 请求进入有界写入队列后立即返回，由写入线程合并批次写入，队列已满时按 ingest_rejection_policy 处理
+     * 使用写入器默认分词器，不使用 IndexField 上配置的字段分词器
+     *
+     * @param documents 文档、多个
+     * @param path 路径
+     * @return 写入完成后返回数量，被拒绝或写入失败时异常完成，异常完成时该请求的文档均未写入
+     */
+    CompletableFuture<Integer> writeIndexAsync(List<IndexDoc> documents, String path);
+
     /**
      *
      * 根据文档中的唯一标识制度按进行文档更新操作
@@ -67,7 +123,7 @@ public interface EasyLuceneWriteService {
     void delete(String idFieldName, String idFieldValue, String pathName) throws IOException;
 
     /**
-     * 根据文档唯一标识字段进行删除(实时,IO开销大,建议少用或系统不忙时处理)
+     * 根据文档唯一标识字段进行删除并立即提交，删除文件的合并由维护线程后台执行，见 IndexMaintenanceScheduler
      *
      * @param idFieldName
      *            唯一标识字段名称
@@ -80,6 +136,35 @@ public interface EasyLuceneWriteService {
      */
     void deleteAndMerge(String idFieldName, String idFieldValue, String pathName) throws IOException;
 
+    /**
+     * 批量更新，按唯一标识替换文档(不存在则新增)，整批通过共享写入器写入后提交一次
+     * @param documents 唯一标识值 -> 文档
+     * @param idFieldName 唯一标识字段名称
+     * @param pathName 存放路径
+     * @return 批次统计
+     * @throws IOException 写入或提交失败
+     */
+    BatchResult updateAll(Map<String, IndexDoc> documents, String idFieldName, String pathName) throws IOException;
+
+    /**
+     * 按唯一标识批量删除，整批删除后提交一次
+     * @param idFieldName 唯一标识字段名称
+     * @param idFieldValues 唯一标识字段值
+     * @param pathName 存放路径
+     * @return 批次统计
+     * @throws IOException 删除或提交失败
+     */
+    BatchResult deleteByIds(String idFieldName, Collection<String> idFieldValues, String pathName) throws IOException;
+
+    /**
+     * 删除匹配查询的全部文档，删除后提交一次
+     * @param query 查询
+     * @param pathName 存放路径
+     * @return 批次统计
+     * @throws IOException 删除或提交失败
+     */
+    BatchResult deleteByQuery(Query query, String pathName) throws IOException;
+
     /**
      * 删除指定文档所有索引
      * @param pathname IndexDoc 路径
@@ -87,4 +172,41 @@ public interface EasyLuceneWriteService {
      */
     void deleteAll(String pathname)throws IOException;
 
+    /**
+     * 刷新指定路径，使已写入但未提交的变更对查询可见(不保证持久化)
+     * @param pathname 存入时候的路径
+     * @throws IOException 异常
+     */
+    void flush(String pathname) throws IOException;
+
+    /**
+     * 立即提交指定路径的全部待提交变更(持久化)
+     * @param pathname 存入时候的路径
+     * @throws IOException 异常
+     */
+    void commit(String pathname) throws IOException;
+
+    /**
+     * 异步合并段，在低优先级维护线程执行，同一路径已有维护任务执行中时返回该任务
+     * @param pathname 存入时候的路径
+     * @param maxSegments 合并后最多段数
+     * @return 完成后返回最终进度，合并失败时异常完成
+     * @throws IllegalArgumentException maxSegments 小于1
+     */
+    CompletableFuture<MergeProgress> optimize(String pathname, int maxSegments);
+
+    /**
+     * 异步回收删除文档，在低优先级维护线程执行，同一路径已有维护任务执行中时返回该任务
+     * @param pathname 存入时候的路径
+     * @return 完成后返回最终进度，回收失败时异常完成
+     */
+    CompletableFuture<MergeProgress> expungeDeletes(String pathname);
+
+    /**
+     * 最近一次维护任务(合并段、回收删除文档)的进度
+     * @param pathname 存入时候的路径
+     * @return 进度，未执行过维护任务时返回 null
+     */
+    MergeProgress getMergeProgress(String pathname);
+
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.xqlee.easylucene.service;
+
+import com.xqlee.easylucene.model.FieldProjection;
+import com.xqlee.easylucene.model.SearchResult;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 响应式查询服务(classpath 存在 Reactor 时自动配置)
+ * 查询在独立的有界 Lucene 调度器上执行，取消订阅时停止收集，不中断查询线程
+ * 与阻塞查询不同，查询失败时发出 onError 而不是返回空结果
+ */
+public interface ReactiveEasyLuceneQueryService {
+
+    /**
+     * Query 条件查询
+     * @param currentPage 当前页码，默认1，从1开始
+     * @param pageSize 分页大小
+     * @param query 条件
+     * @param sort 排序(字段需开启 docValues)，为空时按相关度排序
+     * @param highlightFieldNames 高亮字段
+     * @param projection 返回字段投影，为空时返回全部存储字段
+     * @param pathname 存入时候的路径
+     * @return 查询结果，查询失败时发出 onError
+     */
+    Mono<SearchResult> query(int currentPage, int pageSize, Query query, Sort sort, List<String> highlightFieldNames,
+                             FieldProjection projection, String pathname);
+
+    /**
+     * Query 条件查询(游标分页)
+     * @param cursor 上一页返回的游标，为空时查询第一页
+     * @param pageSize 分页大小
+     * @param query 条件
+     * @param sort 排序(字段需开启 docValues)，为空时按相关度排序
+     * @param highlightFieldNames 高亮字段
+     * @param projection 返回字段投影，为空时返回全部存储字段
+     * @param pathname 存入时候的路径
+     * @return 查询结果，查询失败时发出 onError
+     */
+    Mono<SearchResult> query(String cursor, int pageSize, Query query, Sort sort, List<String> highlightFieldNames,
+                             FieldProjection projection, String pathname);
+
+    /**
+     * 流式返回全部命中文档
+     * 按 reactive_stream_page_size 游标分页查询，下游有需求时才查询下一页(背压)，取消后不再查询并停止当前收集
+     * @param query 条件
+     * @param sort 排序(字段需开启 docValues)，为空时按相关度排序
+     * @param highlightFieldNames 高亮字段
+     * @param projection 返回字段投影，为空时返回全部存储字段
+     * @param pathname 存入时候的路径
+     * @return 命中文档，查询失败时发出 onError
+     */
+    Flux<Map<String, String>> stream(Query query, Sort sort, List<String> highlightFieldNames,
+                                     FieldProjection projection, String pathname);
+}
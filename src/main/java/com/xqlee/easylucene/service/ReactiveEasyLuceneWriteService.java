@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.xqlee.easylucene.service;
+
+import com.xqlee.easylucene.model.BatchResult;
+import com.xqlee.easylucene.model.IndexDoc;
+import com.xqlee.easylucene.model.IndexField;
+import org.apache.lucene.search.Query;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 响应式写入服务(classpath 存在 Reactor 时自动配置)
+ * 写入在独立的有界 Lucene 调度器上执行，参数与返回值含义同 {@link EasyLuceneWriteService}
+ */
+public interface ReactiveEasyLuceneWriteService {
+
+    /**
+     * 写入多个文档
+     * @param documents 文档
+     * @param path 存入时候的路径
+     * @return 写入数量
+     */
+    Mono<Integer> writeIndex(List<IndexDoc> documents, String path);
+
+    /**
+     * 根据唯一标识更新文档
+     * @param indexFields 待更新文档
+     * @param idFieldName 唯一标识字段
+     * @param pathName 路径名称
+     * @return 完成信号
+     */
+    Mono<Void> update(List<IndexField> indexFields, String idFieldName, String pathName);
+
+    /**
+     * 根据唯一标识删除文档
+     * @param idFieldName 唯一标识字段名称
+     * @param idFieldValue 唯一标识字段值
+     * @param pathName 存放路径
+     * @return 完成信号
+     */
+    Mono<Void> delete(String idFieldName, String idFieldValue, String pathName);
+
+    /**
+     * 批量更新，整批提交一次
+     * @param documents 唯一标识值 -&gt; 文档
+     * @param idFieldName 唯一标识字段名称
+     * @param pathName 存放路径
+     * @return 批次统计
+     */
+    Mono<BatchResult> updateAll(Map<String, IndexDoc> documents, String idFieldName, String pathName);
+
+    /**
+     * 按唯一标识批量删除，整批提交一次
+     * @param idFieldName 唯一标识字段名称
+     * @param idFieldValues 唯一标识字段值
+     * @param pathName 存放路径
+     * @return 批次统计
+     */
+    Mono<BatchResult> deleteByIds(String idFieldName, Collection<String> idFieldValues, String pathName);
+
+    /**
+     * 删除匹配查询的全部文档，提交一次
+     * @param query 查询
+     * @param pathName 存放路径
+     * @return 批次统计
+     */
+    Mono<BatchResult> deleteByQuery(Query query, String pathName);
+
+    /**
+     * 刷新，使未提交的写入对查询可见
+     * @param pathname 存入时候的路径
+     * @return 完成信号
+     */
+    Mono<Void> flush(String pathname);
+
+    /**
+     * 提交
+     * @param pathname 存入时候的路径
+     * @return 完成信号
+     */
+    Mono<Void> commit(String pathname);
+}
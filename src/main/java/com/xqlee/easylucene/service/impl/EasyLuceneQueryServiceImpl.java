@@ -18,28 +18,38 @@ package com.xqlee.easylucene.service.impl;
 
 import com.xqlee.easylucene.autoconfigure.AnalyzerProvider;
 import com.xqlee.easylucene.autoconfigure.EasyLuceneProperties;
+import com.xqlee.easylucene.highlight.HighlighterProvider;
+import com.xqlee.easylucene.highlight.QueryHighlighter;
+import com.xqlee.easylucene.metrics.EasyLuceneMetrics;
+import com.xqlee.easylucene.model.CancellableCollector;
+import com.xqlee.easylucene.model.Constants;
+import com.xqlee.easylucene.model.FieldProjection;
+import com.xqlee.easylucene.model.IndexFieldType;
+import com.xqlee.easylucene.model.SearchCursor;
 import com.xqlee.easylucene.model.SearchField;
+import com.xqlee.easylucene.model.SearchRange;
 import com.xqlee.easylucene.model.SearchResult;
+import com.xqlee.easylucene.model.SearchSort;
 import com.xqlee.easylucene.model.ThresholdFilterCollector;
+import com.xqlee.easylucene.registry.IndexSearcherRegistry;
+import com.xqlee.easylucene.registry.QueryResultCache;
 import com.xqlee.easylucene.service.EasyLuceneQueryService;
 import jakarta.annotation.Resource;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.lucene.analysis.TokenStream;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.index.*;
+import org.apache.lucene.queryparser.classic.ParseException;
 import org.apache.lucene.queryparser.classic.QueryParser;
 import org.apache.lucene.search.*;
-import org.apache.lucene.search.highlight.*;
-import org.apache.lucene.store.Directory;
-import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.Bits;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
-import java.io.File;
 import java.io.IOException;
-import java.io.StringReader;
-import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 
 @Slf4j
 @Service
@@ -52,266 +62,141 @@ public class EasyLuceneQueryServiceImpl implements EasyLuceneQueryService {
     @Resource
     EasyLuceneProperties easyLuceneProperties;
 
-    public EasyLuceneQueryServiceImpl() {
+    /** 查询器注册中心 **/
+    @Resource
+    IndexSearcherRegistry indexSearcherRegistry;
 
-    }
+    /** 指标记录 **/
+    @Resource
+    EasyLuceneMetrics easyLuceneMetrics;
 
-    /**
-     * 获取lucene读写目录
-     * @param pathname 路径
-     * @return 目录
-     * @throws IOException 获取目录可能的io错误
-     */
-    private Directory getDirectory(String pathname) throws IOException {
-        String dirPath = easyLuceneProperties.getStore_path() + File.separator + pathname;
-        File dir = new File(dirPath);
-        if (!dir.exists()) {
-            boolean mkdirs = dir.mkdirs();
-            if (!mkdirs) {
-                log.error("Easy Lucene Create Directory [{}] Failed", dirPath);
-            }
-        }
-        return FSDirectory.open(Paths.get(dirPath));
-    }
+    @Resource
+    HighlighterProvider highlighterProvider;
 
-    private IndexReader getReader(Directory directory) throws IOException {
-        return DirectoryReader.open(directory);
-    }
+    @Resource
+    QueryResultCache queryResultCache;
+
+    public EasyLuceneQueryServiceImpl() {
 
-    private ScoreDoc getLastScoreDoc(int currentPage, int pageSize, Query query, IndexSearcher indexSearcher)
-            throws IOException {
-        if (currentPage == 1) {
-            return null;
-        } // 第一页返回空
-        int num = pageSize * (currentPage - 1);// 获取前面数量
-        TopDocs topDocs = indexSearcher.search(query, num);
-        return topDocs.scoreDocs[num - 1];// 获取最后一个
     }
 
     @Override
     public SearchResult queryOneField(int currentPage, int pageSize, SearchField searchField, String pathname) {
-        SearchResult result = new SearchResult();
-        result.setCurrentPage(currentPage);
-        result.setPageSize(pageSize);
-        try {
-            List<Map<String, String>> list = new ArrayList<>();
-            long startTime = System.currentTimeMillis();
-            Directory directory = this.getDirectory(pathname);
-            IndexReader indexReader = this.getReader(directory);
-            IndexSearcher indexSearcher = new IndexSearcher(indexReader);// 查询器
-            QueryParser parser = new QueryParser(searchField.getName(), analyzerProvider.getAnalyzer());// 查询容器
-            Query query = parser.parse(QueryParser.escape(searchField.getValue()));
-            // 上次最后一个文档位置
-            ScoreDoc after = getLastScoreDoc(currentPage, pageSize, query, indexSearcher);
-            TopDocs topDocs = indexSearcher.searchAfter(after, query, pageSize);
-            // 高亮处理
-            QueryScorer queryScorer = new QueryScorer(query);
-            Fragmenter fragmenter = new SimpleSpanFragmenter(queryScorer);
-            SimpleHTMLFormatter simpleHTMLFormatter = new SimpleHTMLFormatter();
-            Highlighter highlighter = new Highlighter(simpleHTMLFormatter, queryScorer);
-            highlighter.setTextFragmenter(fragmenter);
-
-            HashMap<String, String> bean;
-            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-                Document doc = indexSearcher.doc(scoreDoc.doc);
-                bean = new HashMap<>();
-                for (IndexableField field : doc) {
-                    String fvalue = field.stringValue();
-                    // deal highlight
-                    if (field.name().equals(searchField.getName()) && searchField.isHighlight()) {
-                        TokenStream tokenStream = analyzerProvider.getAnalyzer().tokenStream(searchField.getName(), new StringReader(fvalue));
-                        String highlight = highlighter.getBestFragment(tokenStream, field.stringValue());
-                        highlight = highlight == null ? "" : highlight;
-                        bean.put(field.name(), highlight);
-                    } else {
-                        if (fvalue == null) {
-                            fvalue = "";
-                        }
-                        bean.put(field.name(), fvalue);
-                    }
+        return doQueryOneField(currentPage, null, pageSize, searchField, pathname);
+    }
 
-                }
-                list.add(bean);
-            }
-            int total = topDocs.totalHits;
+    @Override
+    public SearchResult queryOneField(String cursor, int pageSize, SearchField searchField, String pathname) {
+        SearchCursor searchCursor = SearchCursor.decode(cursor);
+        int currentPage = searchCursor == null ? 1 : searchCursor.getPage() + 1;
+        return doQueryOneField(currentPage, searchCursor, pageSize, searchField, pathname);
+    }
 
-            result.setRows(list);
-            result.setTotal(total);
-            log.info("Easy Lucene keywords [{}] hit [{}] Cost Time [{}ms]", searchField.getValue(), total ,(System.currentTimeMillis() - startTime));
-            indexReader.close();// 关闭
-            return result;
+    private SearchResult doQueryOneField(int currentPage, SearchCursor cursor, int pageSize, SearchField searchField, String pathname) {
+        Query query;
+        try {
+            QueryParser parser = new QueryParser(searchField.getName(), analyzerProvider.getAnalyzer(searchField.getAnalyzerName()));// 查询容器
+            query = parser.parse(QueryParser.escape(searchField.getValue()));
         } catch (Exception e) {
             log.error(e.getMessage(), e);
-            result.setRows(new ArrayList<>());
-            result.setTotal(0);
-            return result;
-
+            return emptyResult(currentPage, pageSize);
         }
-
+        return search(currentPage, cursor, pageSize, query, null, null, getHighlightFields(Collections.singletonList(searchField)), false, 0, null, Collections.singletonList(pathname), false);
     }
 
     @Override
     public SearchResult queryMultiField(int currentPage, int pageSize, List<SearchField> searchFields, String pathname) {
-        SearchResult result = new SearchResult();
-        result.setCurrentPage(currentPage);
-        result.setPages(pageSize);
-        try {
-            List<Map<String, String>> list = new ArrayList<>();
-            long startTime = System.currentTimeMillis();
-            Directory directory = this.getDirectory(pathname);
-            IndexReader indexReader = this.getReader(directory);
-            IndexSearcher indexSearcher = new IndexSearcher(indexReader);// 查询器
+        return doQueryMultiField(currentPage, null, pageSize, searchFields, pathname);
+    }
+
+    @Override
+    public SearchResult queryMultiField(String cursor, int pageSize, List<SearchField> searchFields, String pathname) {
+        SearchCursor searchCursor = SearchCursor.decode(cursor);
+        int currentPage = searchCursor == null ? 1 : searchCursor.getPage() + 1;
+        return doQueryMultiField(currentPage, searchCursor, pageSize, searchFields, pathname);
+    }
 
+    private SearchResult doQueryMultiField(int currentPage, SearchCursor cursor, int pageSize, List<SearchField> searchFields, String pathname) {
+        Query query;
+        try {
             BooleanQuery.Builder booleanQueryBuilder = new BooleanQuery.Builder();
             for (SearchField searchField : searchFields) {
-                Query query;
-                if (searchField.isBaseQuery()){
-                    query=new TermQuery(new Term(searchField.getName(),QueryParser.escape(searchField.getValue())));
-                }else{
-                    // 解析查询条件进行查询
-                    QueryParser parser = new QueryParser(searchField.getName(), analyzerProvider.getAnalyzer());
-                    query = parser.parse(QueryParser.escape(searchField.getValue()));
-                }
+                Query fieldQuery = toFieldQuery(searchField);
                 // 1．MUST和MUST：取得连个查询子句的交集。
                 // 2．MUST和MUST_NOT：表示查询结果中不能包含MUST_NOT所对应得查询子句的检索结果。
                 // 3．SHOULD与MUST_NOT：连用时，功能同MUST和MUST_NOT。
                 // 4．SHOULD与MUST连用时，结果为MUST子句的检索结果,但是SHOULD可影响排序。
                 // 5．SHOULD与SHOULD：表示“或”关系，最终检索结果为所有检索子句的并集。
                 // 6．MUST_NOT和MUST_NOT：无意义，检索无结果。
-                booleanQueryBuilder.add(query, searchField.getOccur());
+                // 7．FILTER：同 MUST 但不参与评分，匹配结果可被过滤缓存复用。
+                booleanQueryBuilder.add(fieldQuery, searchField.getOccur());
             }
-            TopDocs tmp = indexSearcher.search(booleanQueryBuilder.build(), pageSize);
-            int total = 0;
-            if (tmp.totalHits > 0) {
-                // 分页处理
-                ScoreDoc after = getLastScoreDoc(currentPage, pageSize, booleanQueryBuilder.build(), indexSearcher);
-                // 查询处理
-                TopDocs topDocs = indexSearcher.searchAfter(after, booleanQueryBuilder.build(), pageSize);
-
-                // 高亮处理
-                QueryScorer queryScorer = new QueryScorer(booleanQueryBuilder.build());
-                Fragmenter fragmenter = new SimpleSpanFragmenter(queryScorer);
-                SimpleHTMLFormatter simpleHTMLFormatter = new SimpleHTMLFormatter();
-                Highlighter highlighter = new Highlighter(simpleHTMLFormatter, queryScorer);
-                highlighter.setTextFragmenter(fragmenter);
-
-                Map<String, String> bean;
-                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-                    Document doc = indexSearcher.doc(scoreDoc.doc);
-                    bean = new HashMap<>();
-                    for (IndexableField field : doc) {
-                        // deal highlight
-                        boolean tmpFlag = false;
-                        for (SearchField searchField : searchFields) {
-                            if (field.name().equals(searchField.getName()) && searchField.isHighlight()) {
-                                TokenStream tokenStream = analyzerProvider.getAnalyzer().tokenStream(searchField.getName(),
-                                        new StringReader(field.stringValue()));
-                                String highlight = highlighter.getBestFragment(tokenStream, field.stringValue());
-                                highlight = !StringUtils.hasText(highlight) ? field.stringValue() : highlight;
-                                bean.put(field.name(), highlight);
-                                tmpFlag = true;
-                                break;
-                            }
-                        }
-                        if (!tmpFlag) {// 非高亮字段,直接赋值
-                            bean.put(field.name(), field.stringValue() == null ? "" : field.stringValue());
-                        }
-                    }
-                    list.add(bean);
+            // 只构建一次，查询与高亮共用
+            query = booleanQueryBuilder.build();
+        } catch (Exception e) {
+            log.error(e.getMessage(), e);
+            return emptyResult(currentPage, pageSize);
+        }
+        return search(currentPage, cursor, pageSize, query, null, null, getHighlightFields(searchFields), true, 0, null, Collections.singletonList(pathname), false);
+    }
+
+    @Override
+    public SearchResult queryMultiField(int currentPage, int pageSize, List<SearchField> searchFields,
+                                        List<SearchRange> ranges, List<SearchSort> sorts, String pathname) {
+        return queryMultiField(currentPage, pageSize, searchFields, ranges, sorts, null, pathname);
+    }
+
+    @Override
+    public SearchResult queryMultiField(int currentPage, int pageSize, List<SearchField> searchFields,
+                                        List<SearchRange> ranges, List<SearchSort> sorts, FieldProjection projection,
+                                        String pathname) {
+        Query query;
+        Sort sort = null;
+        List<SearchField> fields = searchFields == null ? Collections.emptyList() : searchFields;
+        try {
+            BooleanQuery.Builder booleanQueryBuilder = new BooleanQuery.Builder();
+            for (SearchField searchField : fields) {
+                booleanQueryBuilder.add(toFieldQuery(searchField), searchField.getOccur());
+            }
+            if (ranges != null) {
+                // 范围条件仅过滤，不参与评分
+                for (SearchRange range : ranges) {
+                    booleanQueryBuilder.add(range.toQuery(), BooleanClause.Occur.FILTER);
                 }
-                total = topDocs.totalHits;
             }
-
-            result.setRows(list);
-            result.setTotal(total);
-            log.info("Easy Lucene Index Query Total[{}] Cost Time [{}ms]",total , (System.currentTimeMillis() - startTime));
-            indexReader.close();// 关闭
-            return result;
+            query = booleanQueryBuilder.build();
+            sort = SearchSort.toSort(sorts);
         } catch (Exception e) {
             log.error(e.getMessage(), e);
-            result.setRows(new ArrayList<>());
-            result.setTotal(0);
-            return result;
+            return emptyResult(currentPage, pageSize);
         }
+        return search(currentPage, null, pageSize, query, sort, projection, getHighlightFields(fields), true, 0, null, Collections.singletonList(pathname), false);
     }
-    
+
     @Override
     public SearchResult queryMultiField(int currentPage, int pageSize, String pathname, SearchField... searchFields) {
-
-        SearchResult result = new SearchResult();
+        Query query;
         try {
-            List<Map<String, String>> list = new ArrayList<>();
-            long startTime = System.currentTimeMillis();
-            Directory directory = this.getDirectory(pathname);
-            IndexReader indexReader = this.getReader(directory);
-            IndexSearcher indexSearcher = new IndexSearcher(indexReader);// 查询器
-
             BooleanQuery.Builder booleanQueryBuilder = new BooleanQuery.Builder();
             for (SearchField searchField : searchFields) {
-                QueryParser parser = new QueryParser(searchField.getName(), analyzerProvider.getAnalyzer());// 查询容器
-                Query query = parser.parse(QueryParser.escape(searchField.getValue()));
+                // 与 List 重载一致: 基础查询/过滤字段精确匹配，其余解析字段值
+                Query fieldQuery = toFieldQuery(searchField);
                 // 1．MUST和MUST：取得连个查询子句的交集。
                 // 2．MUST和MUST_NOT：表示查询结果中不能包含MUST_NOT所对应得查询子句的检索结果。
                 // 3．SHOULD与MUST_NOT：连用时，功能同MUST和MUST_NOT。
                 // 4．SHOULD与MUST连用时，结果为MUST子句的检索结果,但是SHOULD可影响排序。
                 // 5．SHOULD与SHOULD：表示“或”关系，最终检索结果为所有检索子句的并集。
                 // 6．MUST_NOT和MUST_NOT：无意义，检索无结果。
-                booleanQueryBuilder.add(query, searchField.getOccur());
-            }
-            TopDocs tmp = indexSearcher.search(booleanQueryBuilder.build(), pageSize);
-            int total = 0;
-            if (tmp.totalHits > 0) {
-                // 分页处理
-                ScoreDoc after = getLastScoreDoc(currentPage, pageSize, booleanQueryBuilder.build(), indexSearcher);
-                // 查询处理
-                TopDocs topDocs = indexSearcher.searchAfter(after, booleanQueryBuilder.build(), pageSize);
-
-                // 高亮处理
-                QueryScorer queryScorer = new QueryScorer(booleanQueryBuilder.build());
-                Fragmenter fragmenter = new SimpleSpanFragmenter(queryScorer);
-                SimpleHTMLFormatter simpleHTMLFormatter = new SimpleHTMLFormatter();
-                Highlighter highlighter = new Highlighter(simpleHTMLFormatter, queryScorer);
-                highlighter.setTextFragmenter(fragmenter);
-
-                Map<String, String> bean;
-                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-                    Document doc = indexSearcher.doc(scoreDoc.doc);
-                    bean = new HashMap<>();
-                    for (IndexableField field : doc) {
-                        // deal highlight
-                        boolean tmpFlag = false;
-                        for (SearchField searchField : searchFields) {
-                            if (field.name().equals(searchField.getName()) && searchField.isHighlight()) {
-                                TokenStream tokenStream = analyzerProvider.getAnalyzer().tokenStream(searchField.getName(),
-                                        new StringReader(field.stringValue()));
-                                String highlight = highlighter.getBestFragment(tokenStream, field.stringValue());
-                                highlight = highlight == null ? "" : highlight;
-                                bean.put(field.name(), highlight);
-                                tmpFlag = true;
-                                break;
-                            }
-                        }
-                        if (!tmpFlag) {// 非高亮字段,直接赋值
-                            bean.put(field.name(), field.stringValue() == null ? "" : field.stringValue());
-                        }
-                    }
-                    list.add(bean);
-                }
-                total = topDocs.totalHits;
+                // 7．FILTER：同 MUST 但不参与评分，匹配结果可被过滤缓存复用。
+                booleanQueryBuilder.add(fieldQuery, searchField.getOccur());
             }
-
-            result.setRows(list);
-            result.setTotal(total);
-            log.debug("Easy Lucene Index Query Total [{}] Cost Time [{}ms]", total , (System.currentTimeMillis() - startTime));
-            indexReader.close();// 关闭
-            return result;
+            // 只构建一次，查询与高亮共用
+            query = booleanQueryBuilder.build();
         } catch (Exception e) {
             log.error(e.getMessage(), e);
-            result.setRows(new ArrayList<>());
-            result.setTotal(0);
-            return result;
+            return emptyResult(currentPage, pageSize);
         }
-
+        return search(currentPage, null, pageSize, query, null, null, getHighlightFields(Arrays.asList(searchFields)), false, 0, null, Collections.singletonList(pathname), false);
     }
 
     @Override
@@ -319,80 +204,477 @@ public class EasyLuceneQueryServiceImpl implements EasyLuceneQueryService {
         return query(currentPage, pageSize, query, highlightFieldNames, 0, pathname);
     }
 
-
     @Override
     public SearchResult query(int currentPage, int pageSize, Query query, List<String> highlightFieldNames, float scoreThreshold, String pathname) {
+        return doQuery(currentPage, null, pageSize, query, null, null, highlightFieldNames, scoreThreshold, null, Collections.singletonList(pathname), false);
+    }
+
+    @Override
+    public SearchResult query(String cursor, int pageSize, Query query, List<String> highlightFieldNames, float scoreThreshold, String pathname) {
+        SearchCursor searchCursor = SearchCursor.decode(cursor);
+        int currentPage = searchCursor == null ? 1 : searchCursor.getPage() + 1;
+        return doQuery(currentPage, searchCursor, pageSize, query, null, null, highlightFieldNames, scoreThreshold, null, Collections.singletonList(pathname), false);
+    }
+
+    @Override
+    public SearchResult query(int currentPage, int pageSize, Query query, Sort sort, List<String> highlightFieldNames, String pathname) {
+        return query(currentPage, pageSize, query, sort, highlightFieldNames, null, pathname);
+    }
+
+    @Override
+    public SearchResult query(String cursor, int pageSize, Query query, Sort sort, List<String> highlightFieldNames, String pathname) {
+        return query(cursor, pageSize, query, sort, highlightFieldNames, null, pathname);
+    }
+
+    @Override
+    public SearchResult query(int currentPage, int pageSize, Query query, Sort sort, List<String> highlightFieldNames,
+                              FieldProjection projection, String pathname) {
+        return doQuery(currentPage, null, pageSize, query, sort, projection, highlightFieldNames, 0, null, Collections.singletonList(pathname), false);
+    }
+
+    @Override
+    public SearchResult query(String cursor, int pageSize, Query query, Sort sort, List<String> highlightFieldNames,
+                              FieldProjection projection, String pathname) {
+        SearchCursor searchCursor = SearchCursor.decode(cursor);
+        int currentPage = searchCursor == null ? 1 : searchCursor.getPage() + 1;
+        return doQuery(currentPage, searchCursor, pageSize, query, sort, projection, highlightFieldNames, 0, null, Collections.singletonList(pathname), false);
+    }
+
+    @Override
+    public SearchResult query(int currentPage, int pageSize, Query query, Sort sort, List<String> highlightFieldNames,
+                              FieldProjection projection, BooleanSupplier cancelled, String pathname) {
+        return doQuery(currentPage, null, pageSize, query, sort, projection, highlightFieldNames, 0, cancelled, Collections.singletonList(pathname), false);
+    }
+
+    @Override
+    public SearchResult query(String cursor, int pageSize, Query query, Sort sort, List<String> highlightFieldNames,
+                              FieldProjection projection, BooleanSupplier cancelled, String pathname) {
+        SearchCursor searchCursor = SearchCursor.decode(cursor);
+        int currentPage = searchCursor == null ? 1 : searchCursor.getPage() + 1;
+        return doQuery(currentPage, searchCursor, pageSize, query, sort, projection, highlightFieldNames, 0, cancelled, Collections.singletonList(pathname), false);
+    }
+
+    /**
+     * 同 {@link #query(int, int, Query, Sort, List, FieldProjection, BooleanSupplier, String)}，
+     * 查询失败时抛出异常而不是返回空结果，供响应式查询区分"无结果"与"查询失败"
+     * @throws IllegalStateException 查询失败
+     */
+    public SearchResult queryOrThrow(int currentPage, int pageSize, Query query, Sort sort, List<String> highlightFieldNames,
+                                     FieldProjection projection, BooleanSupplier cancelled, String pathname) {
+        return doQuery(currentPage, null, pageSize, query, sort, projection, highlightFieldNames, 0, cancelled, Collections.singletonList(pathname), true);
+    }
+
+    /**
+     * 同 {@link #query(String, int, Query, Sort, List, FieldProjection, BooleanSupplier, String)}，
+     * 查询失败时抛出异常而不是返回空结果，供响应式查询区分"无结果"与"查询失败"
+     * @throws IllegalStateException 查询失败
+     */
+    public SearchResult queryOrThrow(String cursor, int pageSize, Query query, Sort sort, List<String> highlightFieldNames,
+                                     FieldProjection projection, BooleanSupplier cancelled, String pathname) {
+        SearchCursor searchCursor = SearchCursor.decode(cursor);
+        int currentPage = searchCursor == null ? 1 : searchCursor.getPage() + 1;
+        return doQuery(currentPage, searchCursor, pageSize, query, sort, projection, highlightFieldNames, 0, cancelled, Collections.singletonList(pathname), true);
+    }
+
+    @Override
+    public SearchResult queryIndexes(int currentPage, int pageSize, Query query, Sort sort, List<String> highlightFieldNames,
+                                     List<String> pathnames) {
+        List<String> distinct = distinctPathnames(pathnames);
+        if (distinct.isEmpty()) {
+            return emptyResult(currentPage, pageSize);
+        }
+        return doQuery(currentPage, null, pageSize, query, sort, null, highlightFieldNames, 0, null, distinct, false);
+    }
+
+    @Override
+    public SearchResult queryIndexes(String cursor, int pageSize, Query query, Sort sort, List<String> highlightFieldNames,
+                                     List<String> pathnames) {
+        SearchCursor searchCursor = SearchCursor.decode(cursor);
+        int currentPage = searchCursor == null ? 1 : searchCursor.getPage() + 1;
+        List<String> distinct = distinctPathnames(pathnames);
+        if (distinct.isEmpty()) {
+            return emptyResult(currentPage, pageSize);
+        }
+        return doQuery(currentPage, searchCursor, pageSize, query, sort, null, highlightFieldNames, 0, null, distinct, false);
+    }
+
+    private List<String> distinctPathnames(List<String> pathnames) {
+        if (pathnames == null) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(new LinkedHashSet<>(pathnames));
+    }
+
+    private SearchResult doQuery(int currentPage, SearchCursor cursor, int pageSize, Query query, Sort sort,
+                                 FieldProjection projection, List<String> highlightFieldNames, float scoreThreshold,
+                                 BooleanSupplier cancelled, List<String> pathnames, boolean rethrow) {
+        // Query 条件查询不知道解析时的分词器，高亮使用默认分词器
+        Map<String, String> highlightFields = new HashMap<>();
+        if (highlightFieldNames != null) {
+            for (String highlightFieldName : highlightFieldNames) {
+                highlightFields.put(highlightFieldName, null);
+            }
+        }
+        return search(currentPage, cursor, pageSize, query, sort, projection, highlightFields, true, scoreThreshold, cancelled, pathnames, rethrow);
+    }
+
+    /**
+     * 单次查询流程：获取查询器 -&gt; (开启结果缓存时先查缓存) 一次收集得到总数与当前页 -&gt; 取存储字段并高亮 -&gt; 归还查询器
+     * @param currentPage 当前页码，有游标时仅用于结果展示
+     * @param cursor 分页游标，为空时按页码定位
+     * @param pageSize 分页大小
+     * @param query 已构建好的查询(查询与高亮共用同一实例)
+     * @param sort 排序，为空时按相关度排序
+     * @param projection 返回字段投影，为空时返回全部存储字段
+     * @param highlightFields 高亮字段 -&gt; 解析查询时的分词器名称(为空使用默认分词器)
+     * @param fallbackToValue 高亮无结果时是否返回原值(否则返回空字符串)
+     * @param scoreThreshold 评分最低阈值，小于等于0不过滤
+     * @param cancelled 取消状态，为空不可取消；已取消时停止收集并返回空结果(不缓存)
+     * @param pathnames 存入时候的路径，多个时联合查询
+     * @param rethrow 查询失败时是否抛出异常(否则记录日志并返回空结果)
+     * @return 查询结果
+     * @throws IllegalArgumentException 游标与排序方式不一致
+     * @throws IllegalStateException rethrow 为 true 且查询失败
+     */
+    private SearchResult search(int currentPage, SearchCursor cursor, int pageSize, Query query, Sort sort,
+                                FieldProjection projection, Map<String, String> highlightFields, boolean fallbackToValue,
+                                float scoreThreshold, BooleanSupplier cancelled, List<String> pathnames, boolean rethrow) {
+        // 游标与排序方式不一致时直接抛出，不按查询失败处理
+        ScoreDoc after = cursor == null ? null : cursor.toScoreDoc(sort);
+        // 指标与缓存按路径组合区分
+        String pathname = String.join(",", pathnames);
         SearchResult result = new SearchResult();
         result.setCurrentPage(currentPage);
-        result.setPages(pageSize);
+        result.setPageSize(pageSize);
+        IndexSearcher indexSearcher = null;
         try {
-            List<Map<String, String>> list = new ArrayList<>();
-            long startTime = System.currentTimeMillis();
-            Directory directory = this.getDirectory(pathname);
-            IndexReader indexReader = this.getReader(directory);
-            IndexSearcher indexSearcher = new IndexSearcher(indexReader);// 查询器
-
-            TopDocs tmp = indexSearcher.search(query, pageSize);
-            int total = 0;
-            if (tmp.totalHits > 0) {
-                // 分页处理
-                ScoreDoc after = getLastScoreDoc(currentPage, pageSize, query, indexSearcher);
-
-                TopScoreDocCollector collector = TopScoreDocCollector.create(pageSize, after);
-                ThresholdFilterCollector thresholdFilterCollector = new ThresholdFilterCollector(collector, scoreThreshold);
-
-                indexSearcher.search(query, thresholdFilterCollector);
-
-                // 查询处理
-                TopDocs topDocs = collector.topDocs();
-
-                // 高亮处理
-                QueryScorer queryScorer = new QueryScorer(query);
-                Fragmenter fragmenter = new SimpleSpanFragmenter(queryScorer);
-                SimpleHTMLFormatter simpleHTMLFormatter = new SimpleHTMLFormatter();
-                Highlighter highlighter = new Highlighter(simpleHTMLFormatter, queryScorer);
-                highlighter.setTextFragmenter(fragmenter);
-
-                Map<String, String> bean;
-                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-                    Document doc = indexSearcher.doc(scoreDoc.doc);
-                    bean = new HashMap<>();
-                    for (IndexableField field : doc) {
-                        // deal highlight
-                        boolean tmpFlag = false;
-                        if (highlightFieldNames != null) {
-                            for (String hField : highlightFieldNames) {
-                                if (field.name().equals(hField)) {
-                                    TokenStream tokenStream = analyzerProvider.getAnalyzer().tokenStream(hField,
-                                            new StringReader(field.stringValue()));
-                                    String highlight = highlighter.getBestFragment(tokenStream, field.stringValue());
-                                    highlight = !StringUtils.hasText(highlight) ? field.stringValue() : highlight;
-                                    bean.put(field.name(), highlight);
-                                    tmpFlag = true;
-                                    break;
-                                }
-                            }
-                        }
-                        if (!tmpFlag) {// 非高亮字段,直接赋值
-                            bean.put(field.name(), field.stringValue() == null ? "" : field.stringValue());
-                        }
-                    }
-                    list.add(bean);
+            long startTime = System.nanoTime();
+            indexSearcher = pathnames.size() == 1
+                    ? indexSearcherRegistry.acquire(pathnames.get(0)) : indexSearcherRegistry.acquire(pathnames);// 查询器
+            long acquiredTime = System.nanoTime();
+            easyLuceneMetrics.recordQueryPhase(pathname, EasyLuceneMetrics.PHASE_ACQUIRE, acquiredTime - startTime);
+            Object cacheKey = null;
+            long version = getVersion(indexSearcher);
+            if (queryResultCache.isEnabled()) {
+                cacheKey = cacheKey(currentPage, cursor, pageSize, query, sort, projection, highlightFields,
+                        fallbackToValue, scoreThreshold, pathname);
+                SearchResult cached = queryResultCache.get(pathname, cacheKey, version);
+                if (cached != null) {
+                    return cached;
                 }
-                total = topDocs.totalHits;
             }
+            TopDocs topDocs = searchPage(indexSearcher, query, sort, after, currentPage, pageSize, scoreThreshold, cancelled);
+            if (cancelled != null && cancelled.getAsBoolean()) {
+                // 收集已中途结束，结果不完整
+                throw new CancellationException();
+            }
+            easyLuceneMetrics.recordQueryPhase(pathname, EasyLuceneMetrics.PHASE_SEARCH, System.nanoTime() - acquiredTime);
+            List<Map<String, String>> list = toRows(indexSearcher, topDocs, query, projection, highlightFields, fallbackToValue, pathnames);
+            int total = topDocs.totalHits;
 
             result.setRows(list);
             result.setTotal(total);
-            log.debug("Easy Lucene Index Query Total [{}] Cost Time [{}ms]", total , (System.currentTimeMillis() - startTime));
-            indexReader.close();// 关闭
+            result.setCursor(nextCursor(topDocs, currentPage, pageSize));
+            if (cacheKey != null) {
+                queryResultCache.put(pathname, cacheKey, version, result);
+            }
+            log.debug("Easy Lucene Index Query [{}] Total [{}] Cost Time [{}ms]", query, total,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+            return result;
+        } catch (CancellationException e) {
+            log.debug("Easy Lucene Index Query [{}] Cancelled", query);
+            result.setRows(new ArrayList<>());
+            result.setTotal(0);
             return result;
         } catch (Exception e) {
+            if (rethrow) {
+                throw e instanceof RuntimeException ? (RuntimeException) e
+                        : new IllegalStateException("Easy Lucene Index Query Error :" + e.getMessage(), e);
+            }
             log.error(e.getMessage(), e);
             result.setRows(new ArrayList<>());
             result.setTotal(0);
             return result;
+        } finally {
+            indexSearcherRegistry.release(pathname, indexSearcher);// 归还
+        }
+    }
+
+    /**
+     * 结果缓存键，包含影响结果的全部查询条件
+     */
+    private Object cacheKey(int currentPage, SearchCursor cursor, int pageSize, Query query, Sort sort,
+                            FieldProjection projection, Map<String, String> highlightFields, boolean fallbackToValue,
+                            float scoreThreshold, String pathname) {
+        Object projectionKey = projection == null ? null
+                : Arrays.asList(new HashSet<>(projection.getStoredFields()), new HashMap<>(projection.getDocValueFields()));
+        return Arrays.asList(pathname, query, sort, projectionKey, cursor == null ? currentPage : cursor.encode(),
+                pageSize, new HashMap<>(highlightFields), fallbackToValue, scoreThreshold);
+    }
+
+    /**
+     * 一次收集同时得到命中总数和当前页
+     * 页码模式收集前 currentPage * pageSize 条后截取当前页，游标模式从游标位置之后收集 pageSize 条
+     * 查询器开启并行查询时各切片分别收集后合并
+     */
+    private TopDocs searchPage(IndexSearcher indexSearcher, Query query, Sort sort, ScoreDoc after,
+                               int currentPage, int pageSize, float scoreThreshold, BooleanSupplier cancelled) throws IOException {
+        int start = after == null ? Math.max(currentPage - 1, 0) * pageSize : 0;
+        return indexSearcher.search(query, new PageCollectorManager(sort, after, start, pageSize, scoreThreshold, cancelled));
+    }
+
+    /**
+     * 分页收集，每个切片一个收集器，合并后截取当前页
+     */
+    private static class PageCollectorManager implements CollectorManager<Collector, TopDocs> {
+
+        private final Sort sort;
+        private final ScoreDoc after;
+        private final int start;
+        private final int pageSize;
+        private final float scoreThreshold;
+        private final BooleanSupplier cancelled;
+        private final List<TopDocsCollector<?>> collectors = new ArrayList<>();
+
+        private PageCollectorManager(Sort sort, ScoreDoc after, int start, int pageSize, float scoreThreshold,
+                                     BooleanSupplier cancelled) {
+            this.sort = sort;
+            this.after = after;
+            this.start = start;
+            this.pageSize = pageSize;
+            this.scoreThreshold = scoreThreshold;
+            this.cancelled = cancelled;
+        }
+
+        @Override
+        public Collector newCollector() throws IOException {
+            TopDocsCollector<?> collector;
+            if (sort != null) {
+                // 按 DocValues 排序，不计算命中得分
+                collector = TopFieldCollector.create(sort, start + pageSize, (FieldDoc) after, true, false, false);
+            } else {
+                collector = TopScoreDocCollector.create(start + pageSize, after);
+            }
+            synchronized (collectors) {
+                collectors.add(collector);
+            }
+            Collector filtered = scoreThreshold > 0 ? new ThresholdFilterCollector(collector, scoreThreshold) : collector;
+            return cancelled != null ? new CancellableCollector(filtered, cancelled) : filtered;
+        }
+
+        @Override
+        public TopDocs reduce(Collection<Collector> ignored) throws IOException {
+            if (collectors.size() == 1) {
+                return collectors.get(0).topDocs(start, pageSize);
+            }
+            if (sort != null) {
+                TopFieldDocs[] shardHits = new TopFieldDocs[collectors.size()];
+                for (int i = 0; i < shardHits.length; i++) {
+                    shardHits[i] = (TopFieldDocs) collectors.get(i).topDocs();
+                }
+                return TopDocs.merge(sort, start, pageSize, shardHits);
+            }
+            TopDocs[] shardHits = new TopDocs[collectors.size()];
+            for (int i = 0; i < shardHits.length; i++) {
+                shardHits[i] = collectors.get(i).topDocs();
+            }
+            return TopDocs.merge(start, pageSize, shardHits);
+        }
+    }
+
+    /**
+     * 读取命中文档并处理高亮，有投影时只解码投影字段(高亮字段自动加入)
+     * 联合查询时每条记录附带文档所在路径 {@link Constants#Field_Index}
+     */
+    private List<Map<String, String>> toRows(IndexSearcher indexSearcher, TopDocs topDocs, Query query,
+                                             FieldProjection projection, Map<String, String> highlightFields, boolean fallbackToValue,
+                                             List<String> pathnames)
+            throws IOException {
+        String pathname = String.join(",", pathnames);
+        List<Map<String, String>> list = new ArrayList<>();
+        if (topDocs.scoreDocs.length == 0) {
+            return list;
+        }
+        // 高亮处理，同一查询只创建一次高亮器
+        QueryHighlighter highlighter = null;
+        Set<String> highlightFieldNames = highlightFields.keySet();
+        if (!highlightFieldNames.isEmpty()) {
+            highlighter = highlighterProvider.create(indexSearcher, query, highlightFields, topDocs.scoreDocs);
+        }
+
+        Set<String> storedFields = null;
+        if (projection != null) {
+            storedFields = new HashSet<>(projection.getStoredFields());
+            storedFields.addAll(highlightFieldNames);
+        }
+        List<LeafReaderContext> leaves = indexSearcher.getIndexReader().leaves();
+        // 联合查询: 各路径在 MultiReader 中的起始文档号
+        int[] indexStarts = null;
+        if (pathnames.size() > 1) {
+            List<IndexReaderContext> children = indexSearcher.getIndexReader().getContext().children();
+            indexStarts = new int[children.size()];
+            for (int i = 0; i < indexStarts.length; i++) {
+                indexStarts[i] = children.get(i).docBaseInParent;
+            }
+        }
+
+        // 读取与高亮分别计时
+        long fetchNanos = 0;
+        long highlightNanos = 0;
+        Map<String, String> bean;
+        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+            long fetchStart = System.nanoTime();
+            Document doc;
+            if (storedFields == null) {
+                doc = indexSearcher.doc(scoreDoc.doc);
+            } else if (storedFields.isEmpty()) {
+                // 全部字段来自 DocValues，不读取存储文档
+                doc = new Document();
+            } else {
+                doc = indexSearcher.doc(scoreDoc.doc, storedFields);
+            }
+            bean = new HashMap<>();
+            if (projection != null && !projection.getDocValueFields().isEmpty()) {
+                readDocValues(leaves, scoreDoc.doc, projection.getDocValueFields(), bean);
+            }
+            fetchNanos += System.nanoTime() - fetchStart;
+            for (IndexableField field : doc) {
+                String fvalue = field.stringValue();
+                if (fvalue == null && field.numericValue() != null) {
+                    // 数值/日期存储字段
+                    fvalue = field.numericValue().toString();
+                }
+                // deal highlight
+                if (highlighter != null && fvalue != null && highlightFieldNames.contains(field.name())) {
+                    long highlightStart = System.nanoTime();
+                    String highlight = highlighter.highlight(scoreDoc.doc, field.name(), fvalue);
+                    if (!StringUtils.hasText(highlight)) {
+                        highlight = fallbackToValue ? fvalue : "";
+                    }
+                    bean.put(field.name(), highlight);
+                    highlightNanos += System.nanoTime() - highlightStart;
+                } else {// 非高亮字段,直接赋值
+                    bean.put(field.name(), fvalue == null ? "" : fvalue);
+                }
+            }
+            if (indexStarts != null) {
+                bean.put(Constants.Field_Index, pathnames.get(ReaderUtil.subIndex(scoreDoc.doc, indexStarts)));
+            }
+            list.add(bean);
+        }
+        easyLuceneMetrics.recordQueryPhase(pathname, EasyLuceneMetrics.PHASE_FETCH, fetchNanos);
+        if (highlighter != null) {
+            easyLuceneMetrics.recordQueryPhase(pathname, EasyLuceneMetrics.PHASE_HIGHLIGHT, highlightNanos);
+        }
+        return list;
+    }
 
+    /**
+     * 从 DocValues 读取投影字段，文档没有该字段值时不返回
+     */
+    private void readDocValues(List<LeafReaderContext> leaves, int doc, Map<String, IndexFieldType> docValueFields,
+                               Map<String, String> bean) throws IOException {
+        LeafReaderContext leaf = leaves.get(ReaderUtil.subIndex(doc, leaves));
+        LeafReader reader = leaf.reader();
+        int leafDoc = doc - leaf.docBase;
+        for (Map.Entry<String, IndexFieldType> entry : docValueFields.entrySet()) {
+            String name = entry.getKey();
+            IndexFieldType type = entry.getValue();
+            if (type == IndexFieldType.STRING) {
+                SortedDocValues values = reader.getSortedDocValues(name);
+                int ord = values == null ? -1 : values.getOrd(leafDoc);
+                if (ord >= 0) {
+                    bean.put(name, values.lookupOrd(ord).utf8ToString());
+                }
+                continue;
+            }
+            if (type != IndexFieldType.INT && type != IndexFieldType.LONG && type != IndexFieldType.DATE
+                    && type != IndexFieldType.DOUBLE) {
+                throw new IllegalArgumentException(type + " field [" + name + "] does not support doc values");
+            }
+            NumericDocValues values = reader.getNumericDocValues(name);
+            Bits docsWithField = reader.getDocsWithField(name);
+            if (values == null || docsWithField == null || !docsWithField.get(leafDoc)) {
+                continue;
+            }
+            long value = values.get(leafDoc);
+            if (type == IndexFieldType.INT) {
+                bean.put(name, String.valueOf((int) value));
+            } else if (type == IndexFieldType.DOUBLE) {
+                bean.put(name, String.valueOf(Double.longBitsToDouble(value)));
+            } else {
+                bean.put(name, String.valueOf(value));
+            }
         }
     }
+
+    /**
+     * 单个查询字段转换为查询，基础查询不分词，按字段类型精确匹配原始值(不经 QueryParser，不转义)
+     */
+    private Query toFieldQuery(SearchField searchField) throws ParseException {
+        if (searchField.isBaseQuery()) {
+            IndexFieldType type = searchField.getType() == null ? IndexFieldType.STRING : searchField.getType();
+            return type.newExactQuery(searchField.getName(), searchField.getRawValue());
+        }
+        return parseFieldQuery(searchField);
+    }
+
+    private Query parseFieldQuery(SearchField searchField) throws ParseException {
+        // 解析查询条件进行查询
+        QueryParser parser = new QueryParser(searchField.getName(), analyzerProvider.getAnalyzer(searchField.getAnalyzerName()));
+        return parser.parse(QueryParser.escape(searchField.getValue()));
+    }
+
+    /**
+     * 高亮字段 -&gt; 解析查询时的分词器名称，高亮重新分词时与查询使用同一分词器
+     */
+    private Map<String, String> getHighlightFields(List<SearchField> searchFields) {
+        Map<String, String> highlightFields = new HashMap<>();
+        for (SearchField searchField : searchFields) {
+            if (searchField.isHighlight()) {
+                highlightFields.put(searchField.getName(), searchField.getAnalyzerName());
+            }
+        }
+        return highlightFields;
+    }
+
+    /**
+     * 生成下一页游标，没有更多结果时返回空
+     */
+    private String nextCursor(TopDocs topDocs, int currentPage, int pageSize) {
+        ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+        if (scoreDocs.length == 0 || (long) currentPage * pageSize >= topDocs.totalHits) {
+            return null;
+        }
+        ScoreDoc last = scoreDocs[scoreDocs.length - 1];
+        Object[] fields = last instanceof FieldDoc ? ((FieldDoc) last).fields : null;
+        return new SearchCursor(last.score, last.doc, currentPage, fields).encode();
+    }
+
+    private long getVersion(IndexSearcher indexSearcher) {
+        IndexReader indexReader = indexSearcher.getIndexReader();
+        if (indexReader instanceof DirectoryReader) {
+            return ((DirectoryReader) indexReader).getVersion();
+        }
+        // 联合查询: 组合各路径的版本，任一路径刷新后版本变化
+        long version = 0;
+        List<IndexReaderContext> children = indexReader.getContext().children();
+        if (children != null) {
+            for (IndexReaderContext child : children) {
+                if (child.reader() instanceof DirectoryReader) {
+                    version = 31 * version + ((DirectoryReader) child.reader()).getVersion();
+                }
+            }
+        }
+        return version;
+    }
+
+    private SearchResult emptyResult(int currentPage, int pageSize) {
+        SearchResult result = new SearchResult();
+        result.setCurrentPage(currentPage);
+        result.setPageSize(pageSize);
+        result.setRows(new ArrayList<>());
+        result.setTotal(0);
+        return result;
+    }
 }
@@ -20,72 +20,291 @@ import cn.hutool.core.collection.ListUtil;
 import cn.hutool.core.io.FileUtil;
 import com.xqlee.easylucene.autoconfigure.AnalyzerProvider;
 import com.xqlee.easylucene.autoconfigure.EasyLuceneProperties;
+import com.xqlee.easylucene.metrics.EasyLuceneMetrics;
+import com.xqlee.easylucene.model.BatchResult;
+import com.xqlee.easylucene.model.DocumentTemplate;
 import com.xqlee.easylucene.model.IndexDoc;
+import com.xqlee.easylucene.model.IndexDocBatch;
 import com.xqlee.easylucene.model.IndexField;
+import com.xqlee.easylucene.model.MergeProgress;
+import com.xqlee.easylucene.registry.IndexCommitScheduler;
+import com.xqlee.easylucene.registry.IndexIngestQueue;
+import com.xqlee.easylucene.registry.IndexMaintenanceScheduler;
+import com.xqlee.easylucene.registry.IndexSearcherRegistry;
+import com.xqlee.easylucene.registry.IndexWriterRegistry;
 import com.xqlee.easylucene.service.EasyLuceneWriteService;
+import com.xqlee.easylucene.store.DirectoryFactory;
 import com.xqlee.easylucene.thread.EasyModelIndexWriteTaskThread;
 import jakarta.annotation.Resource;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.lucene.document.Field;
-import org.apache.lucene.document.StringField;
-import org.apache.lucene.document.TextField;
 import org.apache.lucene.index.IndexWriter;
-import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.search.Query;
 import org.apache.lucene.store.Directory;
-import org.apache.lucene.store.FSDirectory;
 import org.apache.lucene.util.BytesRef;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.stereotype.Service;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Paths;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
-public class EasyLuceneWriteServiceImpl implements EasyLuceneWriteService {
+public class EasyLuceneWriteServiceImpl implements EasyLuceneWriteService, DisposableBean {
 
     @Resource
     EasyLuceneProperties easyLuceneProperties;
     @Resource
     AnalyzerProvider analyzerProvider;
+    /** 写入器注册中心 **/
+    @Resource
+    IndexWriterRegistry indexWriterRegistry;
+    /** 提交调度器 **/
+    @Resource
+    IndexCommitScheduler indexCommitScheduler;
+    /** 查询器注册中心 **/
+    @Resource
+    IndexSearcherRegistry indexSearcherRegistry;
+    /** 指标记录 **/
+    @Resource
+    EasyLuceneMetrics easyLuceneMetrics;
+    /** 异步写入队列 **/
+    @Resource
+    IndexIngestQueue indexIngestQueue;
+    /** 索引维护调度器 **/
+    @Resource
+    IndexMaintenanceScheduler indexMaintenanceScheduler;
+    /** 目录工厂，临时索引目录 **/
+    @Resource
+    DirectoryFactory directoryFactory;
 
-    private IndexWriter getWriter(Directory directory) throws IOException {
-        // writer配置
-        IndexWriterConfig indexWriterConfig = new IndexWriterConfig(analyzerProvider.getAnalyzer());
-        return new IndexWriter(directory, indexWriterConfig);
-    }
+    /** 批量写入线程池，常驻复用 **/
+    private volatile ExecutorService writePool;
 
     private Directory getDirectory(String pathName) throws IOException {
-        String dirPath = easyLuceneProperties.getStore_path() + File.separator + pathName;
-        File dir = new File(dirPath);
-        if (!dir.exists()) {
-            dir.mkdirs();
-        }
-        return FSDirectory.open(Paths.get(dirPath));
+        return directoryFactory.create(pathName);
     }
 
 
     @Override
     public int writeIndex(List<IndexDoc> documents, String path) throws IOException {
+        if (EasyLuceneProperties.WRITE_MODE_CONCURRENT.equalsIgnoreCase(easyLuceneProperties.getWrite_mode())) {
+            if (!hasFieldAnalyzer(documents)) {
+                return writeIndexConcurrent(documents, path);
+            }
+            // 共享写入器只能使用默认分词器，含字段独立分词器的批次使用合并写入
+            log.debug("Easy Lucene Write [{}] Has Field Analyzer, Use Merge Mode", path);
+        }
+        return writeIndexMerge(documents, path);
+    }
+
+    /**
+     * 并发写入模式: 多个线程直接写入同一个共享写入器(各线程独立的段缓冲)，无需临时索引与合并拷贝
+     */
+    private int writeIndexConcurrent(List<IndexDoc> documents, String path) throws IOException {
+        int num = 0;
+        long startNanos = System.nanoTime();
+        IndexWriter indexWriter = indexWriterRegistry.getWriter(path);
+        List<List<IndexDoc>> subs = partition(documents);
+        ExecutorService pool = getWritePool();
+        Deque<Future<Number>> tasks = new ArrayDeque<>();// 任务集合
+        for (List<IndexDoc> sub : subs) {
+            tasks.add(pool.submit(newWriteTask(sub, indexWriter)));
+        }
+        // 获取线程返回值，任一任务失败时等待其余任务结束后抛出，不提交
+        try {
+            while (!tasks.isEmpty()) {
+                num += awaitTask(tasks.poll());
+            }
+        } catch (IOException e) {
+            drainTasks(tasks, e);
+            throw e;
+        }
+        indexCommitScheduler.commit(path);// 提交索引
+        indexSearcherRegistry.markChanged(path);
+        long costNanos = System.nanoTime() - startNanos;
+        easyLuceneMetrics.recordWrite(path, "writeIndex", num, costNanos);
+        log.info("Easy Lucene All Index Write Tasks Complete!Total [{}] Document Number [{}] Total Time [{}ms]"
+                , num, indexWriter.numDocs(), TimeUnit.NANOSECONDS.toMillis(costNanos));
+        return num;
+    }
+
+    @Override
+    public int writeIndex(Iterator<IndexDoc> documents, String path) throws IOException {
+        int num = 0;
+        long startNanos = System.nanoTime();
+        IndexWriter indexWriter = indexWriterRegistry.getWriter(path);
+        int chunkSize = Math.max(easyLuceneProperties.getStream_chunk_size(), 1);
+        int maxInFlight = Math.max(easyLuceneProperties.getMax_threads(), 1);
+        ExecutorService pool = getWritePool();
+        // 进行中的块，达到上限时等待最早的块完成后再读取，限制内存中的文档数
+        Deque<Future<Number>> inFlight = new ArrayDeque<>();
+        try {
+            while (documents.hasNext()) {
+                List<IndexDoc> chunk = new ArrayList<>(chunkSize);
+                while (chunk.size() < chunkSize && documents.hasNext()) {
+                    chunk.add(documents.next());
+                }
+                if (inFlight.size() >= maxInFlight) {
+                    num += awaitTask(inFlight.poll());
+                }
+                inFlight.add(pool.submit(newWriteTask(chunk, indexWriter)));
+            }
+            while (!inFlight.isEmpty()) {
+                num += awaitTask(inFlight.poll());
+            }
+        } catch (IOException | RuntimeException e) {
+            // 等待进行中的块结束后再抛出，不提交
+            drainTasks(inFlight, e);
+            throw e;
+        }
+        indexCommitScheduler.commit(path);// 提交索引
+        indexSearcherRegistry.markChanged(path);
+        long costNanos = System.nanoTime() - startNanos;
+        easyLuceneMetrics.recordWrite(path, "writeStream", num, costNanos);
+        log.info("Easy Lucene Stream Index Write Complete!Total [{}] Document Number [{}] Total Time [{}ms]"
+                , num, indexWriter.numDocs(), TimeUnit.NANOSECONDS.toMillis(costNanos));
+        return num;
+    }
+
+    @Override
+    public int writeIndex(Stream<IndexDoc> documents, String path) throws IOException {
+        return writeIndex(documents.iterator(), path);
+    }
+
+    @Override
+    public int writeIndex(IndexDocBatch batch, String path) throws IOException {
+        int num = 0;
+        long startNanos = System.nanoTime();
+        IndexWriter indexWriter = indexWriterRegistry.getWriter(path);
+        // 按最大线程数拆分文档区间，各线程使用自己的文档模板写入共享写入器
+        int size = batch.size();
+        int pageSize = Math.max(size / Math.max(easyLuceneProperties.getMax_threads(), 1), 1);
+        ExecutorService pool = getWritePool();
+        List<Future<Number>> tasks = new ArrayList<>();
+        for (int from = 0; from < size; from += pageSize) {
+            int start = from;
+            int end = Math.min(from + pageSize, size);
+            tasks.add(pool.submit(() -> {
+                DocumentTemplate template = DocumentTemplate.get(batch);
+                for (int row = start; row < end; row++) {
+                    indexWriter.addDocument(template.fill(batch, row));
+                }
+                return end - start;
+            }));
+        }
+        Deque<Future<Number>> pending = new ArrayDeque<>(tasks);
+        try {
+            while (!pending.isEmpty()) {
+                num += awaitTask(pending.poll());
+            }
+        } catch (IOException e) {
+            // 等待其余区间结束后再抛出，不提交
+            drainTasks(pending, e);
+            throw e;
+        }
+        indexCommitScheduler.commit(path);// 提交索引
+        indexSearcherRegistry.markChanged(path);
+        long costNanos = System.nanoTime() - startNanos;
+        easyLuceneMetrics.recordWrite(path, "writeBatch", num, costNanos);
+        log.info("Easy Lucene Batch Index Write Complete!Total [{}] Document Number [{}] Total Time [{}ms]"
+                , num, indexWriter.numDocs(), TimeUnit.NANOSECONDS.toMillis(costNanos));
+        return num;
+    }
+
+    /**
+     * 共享写入器写入任务，逐条写入，失败直接抛出，由 awaitTask 传递给调用方
+     * @param documents 文档
+     * @param indexWriter 共享写入器
+     * @return 写入任务
+     */
+    private Callable<Number> newWriteTask(List<IndexDoc> documents, IndexWriter indexWriter) {
+        return () -> {
+            for (IndexDoc document : documents) {
+                indexWriter.addDocument(DocumentTemplate.get(document.getFields()).fill(document.getFields()));
+            }
+            return documents.size();
+        };
+    }
+
+    private boolean hasFieldAnalyzer(List<IndexDoc> documents) {
+        for (IndexDoc document : documents) {
+            for (IndexField field : document.getFields()) {
+                if (field.isAnalysis() && field.getAnalyzer() != null) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 等待写入任务完成
+     * @param task 写入任务
+     * @return 写入数量
+     * @throws IOException 任务执行失败或等待被中断
+     */
+    private int awaitTask(Future<Number> task) throws IOException {
+        try {
+            return task.get().intValue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException ex = new InterruptedIOException("Easy Lucene Write Interrupted");
+            ex.initCause(e);
+            throw ex;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * 已有任务失败时等待其余任务结束，其余任务的失败附加到首个异常
+     * @param tasks 剩余写入任务
+     * @param failure 首个异常
+     */
+    private void drainTasks(Collection<Future<Number>> tasks, Exception failure) {
+        for (Future<Number> task : tasks) {
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure.addSuppressed(e);
+                return;
+            } catch (ExecutionException e) {
+                failure.addSuppressed(e.getCause());
+            }
+        }
+        tasks.clear();
+    }
+
+    /**
+     * 合并写入模式: 各线程写入独立的临时索引，完成后合并到主索引
+     */
+    private int writeIndexMerge(List<IndexDoc> documents, String path) throws IOException {
         int num = 0;
         synchronized (this) {
             long startTime = System.currentTimeMillis();
+            long startNanos = System.nanoTime();
             // 拆分任务
-            int totalSize = documents.size();
-            // 任务数量
-            int pageSize = totalSize / easyLuceneProperties.getMax_threads();
-            if (pageSize<=0){
-                pageSize = 1;
-            }
-            //
-            List<List<IndexDoc>> subs = ListUtil.partition(documents,pageSize);
+            List<List<IndexDoc>> subs = partition(documents);
 
             // 多线程写
-            ExecutorService pool = Executors.newCachedThreadPool();
+            ExecutorService pool = getWritePool();
             List<Future<Number>> tasks = new ArrayList<Future<Number>>();// 任务集合
 
             List<Directory> dirs = new ArrayList<>();
@@ -107,113 +326,186 @@ public class EasyLuceneWriteServiceImpl implements EasyLuceneWriteService {
                    log.warn(e.getMessage(),e);
                 }
             }
-            // 关闭线程池
-            pool.shutdown();
             long mstartTime = System.currentTimeMillis();
             // 合并索引
-            Directory root = getDirectory(path);
-            IndexWriter indexWriter = getWriter(root);
+            IndexWriter indexWriter = indexWriterRegistry.getWriter(path);
+            long mergeNanos = System.nanoTime();
             indexWriter.addIndexes(dirs.toArray(new Directory[0]));
-            indexWriter.commit();// 提交索引
+            easyLuceneMetrics.recordMerge(path, System.nanoTime() - mergeNanos);
+            indexCommitScheduler.commit(path);// 提交索引
+            indexSearcherRegistry.markChanged(path);
             int total = indexWriter.numDocs();
-            indexWriter.close();
+            for (Directory dir : dirs) {
+                dir.close();
+            }
             log.info("Easy Lucene All Index Write Tasks Complete!Total [{}] Document Number [{}] Merge Time [{}ms] Total Time [{}ms]"
                     ,num,total,(System.currentTimeMillis() - mstartTime),(System.currentTimeMillis() - startTime) );
             String tmpPath = easyLuceneProperties.getStore_path() + File.separator + path + File.separator + "tmp";
             File tempDir = new File(tmpPath);
             FileUtil.del(tempDir);
+            easyLuceneMetrics.recordWrite(path, "writeIndex", num, System.nanoTime() - startNanos);
             return num;
         }
     }
 
+    /**
+     * 按最大线程数拆分任务
+     */
+    private List<List<IndexDoc>> partition(List<IndexDoc> documents) {
+        int pageSize = documents.size() / Math.max(easyLuceneProperties.getMax_threads(), 1);
+        if (pageSize <= 0) {
+            pageSize = 1;
+        }
+        return ListUtil.partition(documents, pageSize);
+    }
+
     @Override
-    public synchronized void update(List<IndexField> indexFields, String idFieldName, String pathName) throws IOException {
-        long startTime = System.currentTimeMillis();
-        // 1.路径
-        Directory directory = this.getDirectory(pathName);
-        // 2.写入器
-        IndexWriter indexWriter = this.getWriter(directory);
-        // 3.更新
-        // 转换文档
-        org.apache.lucene.document.Document doc = new org.apache.lucene.document.Document();
+    public CompletableFuture<Integer> writeIndexAsync(List<IndexDoc> documents, String path) {
+        return indexIngestQueue.submit(documents, path);
+    }
+
+    private ExecutorService getWritePool() {
+        ExecutorService pool = writePool;
+        if (pool == null) {
+            synchronized (this) {
+                if (writePool == null) {
+                    AtomicInteger index = new AtomicInteger();
+                    writePool = Executors.newFixedThreadPool(Math.max(easyLuceneProperties.getMax_threads(), 1), r -> {
+                        Thread thread = new Thread(r, "easy-lucene-write-" + index.getAndIncrement());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                }
+                pool = writePool;
+            }
+        }
+        return pool;
+    }
+
+    @Override
+    public void update(List<IndexField> indexFields, String idFieldName, String pathName) throws IOException {
+        long startTime = System.nanoTime();
+        // 1.写入器
+        IndexWriter indexWriter = indexWriterRegistry.getWriter(pathName);
+        // 2.更新
+        // 转换文档(复用当前线程的文档模板)
+        org.apache.lucene.document.Document doc = DocumentTemplate.get(indexFields).fill(indexFields);
         String idFieldValue = "";
         for (IndexField field : indexFields) {
-            boolean isStore = field.isStore();
-            boolean isAnalyzer = field.isAnalysis();
-            Field.Store store;
-            if (isStore) {
-                store = Field.Store.YES;
-            } else {
-                store = Field.Store.NO;
-            }
-            if (isAnalyzer) {
-                doc.add(new TextField(field.getName(), field.getValue(),
-                        store));
-            } else {
-                doc.add(new StringField(field.getName(), field.getValue(),
-                        store));
-            }
-            if (field.getName().equals(idFieldValue)) {
+            if (field.getName().equals(idFieldName)) {
                 idFieldValue = field.getValue();
             }
         }
-        indexWriter.updateDocument(new Term(idFieldName, new BytesRef(idFieldValue.getBytes())), doc);
-        log.info("Easy Lucene Index Update Time [{}ms]", (System.currentTimeMillis() - startTime));
+        indexWriter.updateDocument(new Term(idFieldName, new BytesRef(idFieldValue)), doc);
+        // 提交操作(按提交策略合并提交)
+        indexCommitScheduler.onChange(pathName, 1);
+        indexSearcherRegistry.markChanged(pathName);
+        long costNanos = System.nanoTime() - startTime;
+        easyLuceneMetrics.recordWrite(pathName, "update", 1, costNanos);
+        log.info("Easy Lucene Index Update Time [{}ms]", TimeUnit.NANOSECONDS.toMillis(costNanos));
     }
 
     @Override
-    public synchronized void delete(String idFieldName, String idFieldValue, String pathName) throws IOException {
-        IndexWriter indexWriter = null;
+    public void delete(String idFieldName, String idFieldValue, String pathName) throws IOException {
         try {
-            long startTime = System.currentTimeMillis();
-            // 1.路径
-            Directory directory = this.getDirectory(pathName);
-            // 2.写入器
-            indexWriter = this.getWriter(directory);
-            // 3.删除(软删除)
-            indexWriter.deleteDocuments(new Term(idFieldName, new BytesRef(idFieldValue.getBytes())));
-            // 提交操作
-            indexWriter.commit();
-            indexWriter.close();
-            log.info("Easy Lucene Index Delete Time [{}ms]", (System.currentTimeMillis() - startTime));
+            long startTime = System.nanoTime();
+            // 1.写入器
+            IndexWriter indexWriter = indexWriterRegistry.getWriter(pathName);
+            // 2.删除(软删除)
+            indexWriter.deleteDocuments(new Term(idFieldName, new BytesRef(idFieldValue)));
+            // 提交操作(按提交策略合并提交)
+            indexCommitScheduler.onChange(pathName, 1);
+            indexSearcherRegistry.markChanged(pathName);
+            long costNanos = System.nanoTime() - startTime;
+            easyLuceneMetrics.recordWrite(pathName, "delete", 1, costNanos);
+            log.info("Easy Lucene Index Delete Time [{}ms]", TimeUnit.NANOSECONDS.toMillis(costNanos));
         } catch (Exception e) {
             log.error(e.getMessage(), e);
-        } finally {
-            if (indexWriter != null) {
-                indexWriter.close();
-            }
         }
     }
 
     @Override
     public void deleteAndMerge(String idFieldName, String idFieldValue, String pathName) throws IOException {
         long startTime = System.currentTimeMillis();
-        // 1.路径
-        Directory directory = this.getDirectory(pathName);
-        // 2.写入器
-        IndexWriter indexWriter = this.getWriter(directory);
-        // 3.删除(软删除)
-        indexWriter.deleteDocuments(new Term(idFieldName, new BytesRef(idFieldValue.getBytes())));
-        // 4.执行io操作,合并删除文件
-        indexWriter.forceMergeDeletes();
+        // 1.写入器
+        IndexWriter indexWriter = indexWriterRegistry.getWriter(pathName);
+        // 2.删除(软删除)
+        indexWriter.deleteDocuments(new Term(idFieldName, new BytesRef(idFieldValue)));
         // 提交操作
-        indexWriter.commit();
-        indexWriter.close();
+        indexCommitScheduler.commit(pathName);
+        indexSearcherRegistry.markChanged(pathName);
+        // 3.合并删除文件由维护线程后台执行
+        indexMaintenanceScheduler.expungeDeletes(pathName);
         log.info("Easy Lucene Delete Cost Time [{}ms]",(System.currentTimeMillis() - startTime));
     }
 
+    @Override
+    public BatchResult updateAll(Map<String, IndexDoc> documents, String idFieldName, String pathName) throws IOException {
+        long startTime = System.nanoTime();
+        IndexWriter indexWriter = indexWriterRegistry.getWriter(pathName);
+        int numDocsBefore = indexWriter.numDocs();
+        for (Map.Entry<String, IndexDoc> entry : documents.entrySet()) {
+            List<IndexField> indexFields = entry.getValue().getFields();
+            indexWriter.updateDocument(new Term(idFieldName, new BytesRef(entry.getKey())),
+                    DocumentTemplate.get(indexFields).fill(indexFields));
+        }
+        return commitBatch(indexWriter, pathName, "updateAll", documents.size(), documents.size(), numDocsBefore, startTime);
+    }
+
+    @Override
+    public BatchResult deleteByIds(String idFieldName, Collection<String> idFieldValues, String pathName) throws IOException {
+        long startTime = System.nanoTime();
+        IndexWriter indexWriter = indexWriterRegistry.getWriter(pathName);
+        int numDocsBefore = indexWriter.numDocs();
+        Term[] terms = new Term[idFieldValues.size()];
+        int i = 0;
+        for (String idFieldValue : idFieldValues) {
+            terms[i++] = new Term(idFieldName, new BytesRef(idFieldValue));
+        }
+        indexWriter.deleteDocuments(terms);
+        return commitBatch(indexWriter, pathName, "deleteByIds", terms.length, 0, numDocsBefore, startTime);
+    }
+
+    @Override
+    public BatchResult deleteByQuery(Query query, String pathName) throws IOException {
+        long startTime = System.nanoTime();
+        IndexWriter indexWriter = indexWriterRegistry.getWriter(pathName);
+        int numDocsBefore = indexWriter.numDocs();
+        indexWriter.deleteDocuments(query);
+        return commitBatch(indexWriter, pathName, "deleteByQuery", 1, 0, numDocsBefore, startTime);
+    }
+
+    /**
+     * 批次结束统一提交一次并统计
+     */
+    private BatchResult commitBatch(IndexWriter indexWriter, String pathName, String operation, int requested,
+                                    int added, int numDocsBefore, long startTime) throws IOException {
+        indexCommitScheduler.commit(pathName);
+        indexSearcherRegistry.markChanged(pathName);
+        BatchResult result = new BatchResult();
+        result.setOperation(operation);
+        result.setRequested(requested);
+        result.setAdded(added);
+        result.setNumDocs(indexWriter.numDocs());
+        result.setDeleted(Math.max(numDocsBefore + added - result.getNumDocs(), 0));
+        long costNanos = System.nanoTime() - startTime;
+        result.setCostMillis(TimeUnit.NANOSECONDS.toMillis(costNanos));
+        easyLuceneMetrics.recordWrite(pathName, operation, Math.max(requested, result.getDeleted()), costNanos);
+        log.info("Easy Lucene {} [{}] Requested [{}] Deleted [{}] Num Docs [{}] Cost Time [{}ms]", operation, pathName,
+                requested, result.getDeleted(), result.getNumDocs(), result.getCostMillis());
+        return result;
+    }
+
     @Override
     public void deleteAll(String pathname) throws IOException {
         try {
             long startTime = System.currentTimeMillis();
-            // 1.路径
-            Directory directory = this.getDirectory(pathname);
-            // 2.写入器
-            IndexWriter indexWriter = this.getWriter(directory);
+            // 1.写入器
+            IndexWriter indexWriter = indexWriterRegistry.getWriter(pathname);
+            // deleteAll 直接丢弃全部段，无需再合并
             indexWriter.deleteAll();
-            indexWriter.forceMergeDeletes();
-            indexWriter.commit();
-            indexWriter.close();
+            indexCommitScheduler.commit(pathname);
+            indexSearcherRegistry.markChanged(pathname);
             log.info("Easy Lucene Deletes Cost Time [{}ms]",(System.currentTimeMillis() - startTime));
         } catch (Exception e) {
             log.error(e.getMessage(), e);
@@ -221,4 +513,42 @@ public class EasyLuceneWriteServiceImpl implements EasyLuceneWriteService {
         }
     }
 
+    @Override
+    public void flush(String pathname) throws IOException {
+        long startTime = System.currentTimeMillis();
+        IndexWriter indexWriter = indexWriterRegistry.getWriter(pathname);
+        indexWriter.flush();
+        // 刷新近实时查询器
+        indexSearcherRegistry.refresh(pathname);
+        log.info("Easy Lucene Flush Cost Time [{}ms]", (System.currentTimeMillis() - startTime));
+    }
+
+    @Override
+    public void commit(String pathname) throws IOException {
+        long startTime = System.currentTimeMillis();
+        indexCommitScheduler.commit(pathname);
+        log.info("Easy Lucene Commit Cost Time [{}ms]", (System.currentTimeMillis() - startTime));
+    }
+
+    @Override
+    public CompletableFuture<MergeProgress> optimize(String pathname, int maxSegments) {
+        return indexMaintenanceScheduler.optimize(pathname, maxSegments);
+    }
+
+    @Override
+    public CompletableFuture<MergeProgress> expungeDeletes(String pathname) {
+        return indexMaintenanceScheduler.expungeDeletes(pathname);
+    }
+
+    @Override
+    public MergeProgress getMergeProgress(String pathname) {
+        return indexMaintenanceScheduler.getProgress(pathname);
+    }
+
+    @Override
+    public void destroy() {
+        if (writePool != null) {
+            writePool.shutdown();
+        }
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.xqlee.easylucene.service.impl;
+
+import com.xqlee.easylucene.model.FieldProjection;
+import com.xqlee.easylucene.model.SearchResult;
+import com.xqlee.easylucene.service.EasyLuceneQueryService;
+import com.xqlee.easylucene.service.ReactiveEasyLuceneQueryService;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 响应式查询服务，委托 {@link EasyLuceneQueryService} 在 Lucene 调度器上执行
+ */
+public class ReactiveEasyLuceneQueryServiceImpl implements ReactiveEasyLuceneQueryService {
+
+    private final EasyLuceneQueryService easyLuceneQueryService;
+
+    private final ReactiveExecutor reactiveExecutor;
+
+    /** 流式查询每页文档数 **/
+    private final int streamPageSize;
+
+    public ReactiveEasyLuceneQueryServiceImpl(EasyLuceneQueryService easyLuceneQueryService, Scheduler scheduler,
+                                              int streamPageSize) {
+        this.easyLuceneQueryService = easyLuceneQueryService;
+        this.reactiveExecutor = new ReactiveExecutor(scheduler);
+        this.streamPageSize = Math.max(streamPageSize, 1);
+    }
+
+    @Override
+    public Mono<SearchResult> query(int currentPage, int pageSize, Query query, Sort sort, List<String> highlightFieldNames,
+                                    FieldProjection projection, String pathname) {
+        return reactiveExecutor.mono(cancelled -> queryOrThrow(currentPage, pageSize, query, sort,
+                highlightFieldNames, projection, cancelled, pathname));
+    }
+
+    @Override
+    public Mono<SearchResult> query(String cursor, int pageSize, Query query, Sort sort, List<String> highlightFieldNames,
+                                    FieldProjection projection, String pathname) {
+        return reactiveExecutor.mono(cancelled -> queryOrThrow(cursor, pageSize, query, sort,
+                highlightFieldNames, projection, cancelled, pathname));
+    }
+
+    @Override
+    public Flux<Map<String, String>> stream(Query query, Sort sort, List<String> highlightFieldNames,
+                                            FieldProjection projection, String pathname) {
+        return Flux.create(sink -> {
+            HitStream stream = new HitStream(sink, query, sort, highlightFieldNames, projection, pathname);
+            sink.onCancel(() -> stream.cancelled.set(true));
+            sink.onRequest(n -> stream.drain());
+        });
+    }
+
+    /**
+     * 查询失败时抛出异常，使订阅者收到 onError 而不是空结果
+     * 自定义的查询服务无法区分查询失败，按其返回结果处理
+     */
+    private SearchResult queryOrThrow(int currentPage, int pageSize, Query query, Sort sort, List<String> highlightFieldNames,
+                                      FieldProjection projection, BooleanSupplier cancelled, String pathname) {
+        if (easyLuceneQueryService instanceof EasyLuceneQueryServiceImpl) {
+            return ((EasyLuceneQueryServiceImpl) easyLuceneQueryService).queryOrThrow(currentPage, pageSize, query, sort,
+                    highlightFieldNames, projection, cancelled, pathname);
+        }
+        return easyLuceneQueryService.query(currentPage, pageSize, query, sort, highlightFieldNames, projection,
+                cancelled, pathname);
+    }
+
+    private SearchResult queryOrThrow(String cursor, int pageSize, Query query, Sort sort, List<String> highlightFieldNames,
+                                      FieldProjection projection, BooleanSupplier cancelled, String pathname) {
+        if (easyLuceneQueryService instanceof EasyLuceneQueryServiceImpl) {
+            return ((EasyLuceneQueryServiceImpl) easyLuceneQueryService).queryOrThrow(cursor, pageSize, query, sort,
+                    highlightFieldNames, projection, cancelled, pathname);
+        }
+        return easyLuceneQueryService.query(cursor, pageSize, query, sort, highlightFieldNames, projection,
+                cancelled, pathname);
+    }
+
+    /**
+     * 流式查询状态，同一时间最多一个分页查询在执行，下游有需求时才查询下一页
+     * 已查询的一页先放入 sink 缓冲，缓冲最多一页
+     */
+    private class HitStream {
+        private final FluxSink<Map<String, String>> sink;
+        private final Query query;
+        private final Sort sort;
+        private final List<String> highlightFieldNames;
+        private final FieldProjection projection;
+        private final String pathname;
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private final AtomicBoolean running = new AtomicBoolean();
+        /** 下一页游标，只在分页查询任务中读写(running 保证串行) **/
+        private String cursor;
+
+        private HitStream(FluxSink<Map<String, String>> sink, Query query, Sort sort, List<String> highlightFieldNames,
+                          FieldProjection projection, String pathname) {
+            this.sink = sink;
+            this.query = query;
+            this.sort = sort;
+            this.highlightFieldNames = highlightFieldNames;
+            this.projection = projection;
+            this.pathname = pathname;
+        }
+
+        private void drain() {
+            if (!cancelled.get() && sink.requestedFromDownstream() > 0 && running.compareAndSet(false, true)) {
+                reactiveExecutor.schedule(this::fetch, sink::error);
+            }
+        }
+
+        private void fetch() {
+            try {
+                if (cancelled.get()) {
+                    return;
+                }
+                SearchResult page = queryOrThrow(cursor, streamPageSize, query, sort,
+                        highlightFieldNames, projection, cancelled::get, pathname);
+                if (cancelled.get()) {
+                    return;
+                }
+                for (Map<String, String> row : page.getRows()) {
+                    sink.next(row);
+                }
+                cursor = page.getCursor();
+                if (cursor == null || page.getRows().isEmpty()) {
+                    sink.complete();
+                    return;
+                }
+            } catch (Throwable e) {
+                sink.error(e);
+                return;
+            }
+            running.set(false);
+            // 查询期间到达的需求
+            drain();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.xqlee.easylucene.service.impl;
+
+import com.xqlee.easylucene.model.BatchResult;
+import com.xqlee.easylucene.model.IndexDoc;
+import com.xqlee.easylucene.model.IndexField;
+import com.xqlee.easylucene.service.EasyLuceneWriteService;
+import com.xqlee.easylucene.service.ReactiveEasyLuceneWriteService;
+import org.apache.lucene.search.Query;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 响应式写入服务，委托 {@link EasyLuceneWriteService} 在 Lucene 调度器上执行
+ * 写入开始后取消订阅不会撤销写入
+ */
+public class ReactiveEasyLuceneWriteServiceImpl implements ReactiveEasyLuceneWriteService {
+
+    private final EasyLuceneWriteService easyLuceneWriteService;
+
+    private final ReactiveExecutor reactiveExecutor;
+
+    public ReactiveEasyLuceneWriteServiceImpl(EasyLuceneWriteService easyLuceneWriteService, Scheduler scheduler) {
+        this.easyLuceneWriteService = easyLuceneWriteService;
+        this.reactiveExecutor = new ReactiveExecutor(scheduler);
+    }
+
+    @Override
+    public Mono<Integer> writeIndex(List<IndexDoc> documents, String path) {
+        return reactiveExecutor.mono(cancelled -> easyLuceneWriteService.writeIndex(documents, path));
+    }
+
+    @Override
+    public Mono<Void> update(List<IndexField> indexFields, String idFieldName, String pathName) {
+        return reactiveExecutor.mono(cancelled -> {
+            easyLuceneWriteService.update(indexFields, idFieldName, pathName);
+            return null;
+        });
+    }
+
+    @Override
+    public Mono<Void> delete(String idFieldName, String idFieldValue, String pathName) {
+        return reactiveExecutor.mono(cancelled -> {
+            easyLuceneWriteService.delete(idFieldName, idFieldValue, pathName);
+            return null;
+        });
+    }
+
+    @Override
+    public Mono<BatchResult> updateAll(Map<String, IndexDoc> documents, String idFieldName, String pathName) {
+        return reactiveExecutor.mono(cancelled -> easyLuceneWriteService.updateAll(documents, idFieldName, pathName));
+    }
+
+    @Override
+    public Mono<BatchResult> deleteByIds(String idFieldName, Collection<String> idFieldValues, String pathName) {
+        return reactiveExecutor.mono(cancelled -> easyLuceneWriteService.deleteByIds(idFieldName, idFieldValues, pathName));
+    }
+
+    @Override
+    public Mono<BatchResult> deleteByQuery(Query query, String pathName) {
+        return reactiveExecutor.mono(cancelled -> easyLuceneWriteService.deleteByQuery(query, pathName));
+    }
+
+    @Override
+    public Mono<Void> flush(String pathname) {
+        return reactiveExecutor.mono(cancelled -> {
+            easyLuceneWriteService.flush(pathname);
+            return null;
+        });
+    }
+
+    @Override
+    public Mono<Void> commit(String pathname) {
+        return reactiveExecutor.mono(cancelled -> {
+            easyLuceneWriteService.commit(pathname);
+            return null;
+        });
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.xqlee.easylucene.service.impl;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * 在 Lucene 调度器上执行阻塞调用
+ * 取消订阅只设置取消状态，不释放(中断)已提交的任务，阻塞调用通过取消状态协作停止
+ */
+class ReactiveExecutor {
+
+    /**
+     * 阻塞调用
+     * @param <T> 结果类型
+     */
+    interface Call<T> {
+        T call(BooleanSupplier cancelled) throws Exception;
+    }
+
+    private final Scheduler scheduler;
+
+    ReactiveExecutor(Scheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * 订阅时提交到调度器执行，结果为 null 时直接完成
+     */
+    <T> Mono<T> mono(Call<T> call) {
+        return Mono.create(sink -> {
+            AtomicBoolean cancelled = new AtomicBoolean();
+            sink.onCancel(() -> cancelled.set(true));
+            schedule(() -> {
+                if (cancelled.get()) {
+                    return;
+                }
+                try {
+                    sink.success(call.call(cancelled::get));
+                } catch (Throwable e) {
+                    sink.error(e);
+                }
+            }, sink::error);
+        });
+    }
+
+    /**
+     * 提交任务，调度器队列已满或已关闭时回调 onRejected
+     */
+    void schedule(Runnable task, Consumer<Throwable> onRejected) {
+        try {
+            scheduler.schedule(task);
+        } catch (Exception e) {
+            onRejected.accept(e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.xqlee.easylucene.store;
+
+import com.xqlee.easylucene.autoconfigure.EasyLuceneProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.store.NIOFSDirectory;
+import org.apache.lucene.store.NRTCachingDirectory;
+import org.apache.lucene.store.RAMDirectory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 默认索引目录工厂
+ * 目录类型按路径取 directory_types，未配置时取 directory_type
+ */
+@Slf4j
+public class DefaultDirectoryFactory implements DirectoryFactory {
+
+    private final EasyLuceneProperties easyLuceneProperties;
+
+    public DefaultDirectoryFactory(EasyLuceneProperties easyLuceneProperties) {
+        this.easyLuceneProperties = easyLuceneProperties;
+    }
+
+    @Override
+    public Directory create(String pathname) throws IOException {
+        String type = getType(pathname);
+        if (EasyLuceneProperties.DIRECTORY_TYPE_RAM.equalsIgnoreCase(type)) {
+            return new RAMDirectory();
+        }
+        Path path = createPath(pathname);
+        if (EasyLuceneProperties.DIRECTORY_TYPE_MMAP.equalsIgnoreCase(type)) {
+            MMapDirectory directory = new MMapDirectory(path);
+            directory.setPreload(easyLuceneProperties.isMmap_preload());
+            return directory;
+        }
+        if (EasyLuceneProperties.DIRECTORY_TYPE_NIOFS.equalsIgnoreCase(type)) {
+            return new NIOFSDirectory(path);
+        }
+        if (EasyLuceneProperties.DIRECTORY_TYPE_NRT_CACHING.equalsIgnoreCase(type)) {
+            return new NRTCachingDirectory(FSDirectory.open(path), easyLuceneProperties.getNrt_cache_max_merge_size_mb(),
+                    easyLuceneProperties.getNrt_cache_max_cached_mb());
+        }
+        if (!EasyLuceneProperties.DIRECTORY_TYPE_FS.equalsIgnoreCase(type)) {
+            throw new IllegalArgumentException("Unknown directory type [" + type + "] for path [" + pathname + "]");
+        }
+        return FSDirectory.open(path);
+    }
+
+    /**
+     * 路径对应的目录类型
+     * @param pathname 存入时候的路径
+     * @return 目录类型
+     */
+    public String getType(String pathname) {
+        String type = easyLuceneProperties.getDirectory_types().get(pathname);
+        return type == null || type.isEmpty() ? easyLuceneProperties.getDirectory_type() : type;
+    }
+
+    private Path createPath(String pathname) {
+        String dirPath = easyLuceneProperties.getStore_path() + File.separator + pathname;
+        File dir = new File(dirPath);
+        if (!dir.exists()) {
+            boolean mkdirs = dir.mkdirs();
+            if (!mkdirs) {
+                log.error("Easy Lucene Create Directory [{}] Failed", dirPath);
+            }
+        }
+        return Paths.get(dirPath);
+    }
+}
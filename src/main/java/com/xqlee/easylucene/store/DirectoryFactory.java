@@ -0,0 +1,37 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.xqlee.easylucene.store;
+
+import org.apache.lucene.store.Directory;
+
+import java.io.IOException;
+
+/**
+ * 索引目录工厂
+ * 按存入时候的路径创建 Directory，打开的目录由 {@link com.xqlee.easylucene.registry.DirectoryRegistry} 缓存复用；可注册自定义实现替换默认实现
+ */
+public interface DirectoryFactory {
+
+    /**
+     * 创建索引目录，调用方负责关闭
+     * @param pathname 存入时候的路径
+     * @return 目录
+     * @throws IOException 打开失败
+     */
+    Directory create(String pathname) throws IOException;
+}
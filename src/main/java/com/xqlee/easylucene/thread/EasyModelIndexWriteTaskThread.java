@@ -16,6 +16,7 @@
 
 package com.xqlee.easylucene.thread;
 
+import com.xqlee.easylucene.model.DocumentTemplate;
 import com.xqlee.easylucene.model.IndexDoc;
 import com.xqlee.easylucene.model.IndexField;
 import lombok.extern.slf4j.Slf4j;
@@ -78,13 +79,12 @@ public class EasyModelIndexWriteTaskThread implements Callable<Number> {
             // 模式一：外部注入了 Writer，直接并发写入（不 commit，交由外部管理）
             long startTime = System.currentTimeMillis();
             if (this.writer!=null){
-                List<Document> docs = new ArrayList<>();
+                // 逐条写入，不额外持有整批 Document，写入器可在批次中途按缓冲区大小刷新段
+                // 同一线程复用字段定义一致的文档模板，只替换字段值
                 for (IndexDoc document : documents) {
-                    Document doc = document.toDoc();
-                    docs.add( doc);
+                    writer.addDocument(DocumentTemplate.get(document.getFields()).fill(document.getFields()));
+                    this.num++;
                 }
-                writer.addDocuments(docs);
-                this.num += docs.size();
             }else{
                 // 模式二：独立运行模式，自行管理 Writer 生命周期
                 Map<String, Analyzer> customAnalyzerMap = new HashMap<>();
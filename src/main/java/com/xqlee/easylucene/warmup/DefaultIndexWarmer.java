@@ -0,0 +1,145 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.xqlee.easylucene.warmup;
+
+import com.xqlee.easylucene.autoconfigure.AnalyzerProvider;
+import com.xqlee.easylucene.autoconfigure.EasyLuceneProperties;
+import com.xqlee.easylucene.model.SearchSort;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 默认索引预热
+ * 仅预热 warmup_paths 中的路径: 新增段逐字段打开词典、norms、DocValues 并读取一个存储文档，
+ * 再执行 warmup_queries 预热查询，按 warmup_sorts 排序遍历全部文档加载排序字段的 DocValues
+ */
+@Slf4j
+public class DefaultIndexWarmer implements IndexWarmer {
+
+    /** 预热查询与排序取的结果数 **/
+    private static final int WARMUP_TOP_N = 10;
+
+    private final EasyLuceneProperties easyLuceneProperties;
+
+    /** 预热查询，启动时解析一次 **/
+    private final List<Query> queries;
+
+    /** 预热排序，为空时不预热排序 **/
+    private final Sort sort;
+
+    public DefaultIndexWarmer(EasyLuceneProperties easyLuceneProperties, AnalyzerProvider analyzerProvider) {
+        this.easyLuceneProperties = easyLuceneProperties;
+        List<Query> parsed = new ArrayList<>();
+        QueryParser parser = new QueryParser("", analyzerProvider.getAnalyzer());
+        for (String query : easyLuceneProperties.getWarmup_queries()) {
+            try {
+                parsed.add(parser.parse(query));
+            } catch (ParseException e) {
+                throw new IllegalArgumentException("Invalid warmup query: " + query, e);
+            }
+        }
+        this.queries = Collections.unmodifiableList(parsed);
+        this.sort = SearchSort.toSort(SearchSort.parse(easyLuceneProperties.getWarmup_sorts()));
+    }
+
+    @Override
+    public void warm(String pathname, IndexSearcher indexSearcher, IndexReader previousReader) throws IOException {
+        if (!easyLuceneProperties.getWarmup_paths().contains(pathname)) {
+            return;
+        }
+        long startTime = System.nanoTime();
+        Set<Object> previousCores = new HashSet<>();
+        if (previousReader != null) {
+            for (LeafReaderContext leaf : previousReader.leaves()) {
+                previousCores.add(leaf.reader().getCoreCacheKey());
+            }
+        }
+        int warmedSegments = 0;
+        for (LeafReaderContext leaf : indexSearcher.getIndexReader().leaves()) {
+            // 已预热过的段(刷新前后共用)跳过
+            if (!previousCores.contains(leaf.reader().getCoreCacheKey())) {
+                touch(leaf.reader());
+                warmedSegments++;
+            }
+        }
+        for (Query query : queries) {
+            indexSearcher.search(query, WARMUP_TOP_N);
+        }
+        if (sort != null) {
+            indexSearcher.search(new MatchAllDocsQuery(), WARMUP_TOP_N, sort);
+        }
+        log.info("Easy Lucene Warmup [{}] Segments [{}] Queries [{}] Cost Time [{}ms]", pathname, warmedSegments,
+                queries.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+
+    /**
+     * 打开段内每个字段的词典、norms、DocValues，读取第一个存储文档
+     */
+    private void touch(LeafReader reader) throws IOException {
+        if (reader.maxDoc() == 0) {
+            return;
+        }
+        for (FieldInfo fieldInfo : reader.getFieldInfos()) {
+            String field = fieldInfo.name;
+            if (fieldInfo.getIndexOptions() != IndexOptions.NONE) {
+                Terms terms = reader.terms(field);
+                if (terms != null) {
+                    TermsEnum termsEnum = terms.iterator();
+                    termsEnum.next();
+                }
+            }
+            if (fieldInfo.hasNorms()) {
+                reader.getNormValues(field);
+            }
+            DocValuesType docValuesType = fieldInfo.getDocValuesType();
+            if (docValuesType == DocValuesType.NUMERIC) {
+                reader.getNumericDocValues(field).get(0);
+            } else if (docValuesType == DocValuesType.BINARY) {
+                reader.getBinaryDocValues(field).get(0);
+            } else if (docValuesType == DocValuesType.SORTED) {
+                reader.getSortedDocValues(field).getOrd(0);
+            } else if (docValuesType == DocValuesType.SORTED_NUMERIC) {
+                reader.getSortedNumericDocValues(field).setDocument(0);
+            } else if (docValuesType == DocValuesType.SORTED_SET) {
+                reader.getSortedSetDocValues(field).setDocument(0);
+            }
+        }
+        reader.document(0);
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.xqlee.easylucene.warmup;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.IndexSearcher;
+
+import java.io.IOException;
+
+/**
+ * 索引预热
+ * 查询器注册中心在每个新查询器(首次打开及每次刷新)发布给查询服务之前调用，预热期间查询仍使用旧查询器；可注册自定义实现替换默认实现
+ */
+public interface IndexWarmer {
+
+    /**
+     * 预热新打开的查询器
+     * @param pathname 存入时候的路径
+     * @param indexSearcher 新查询器
+     * @param previousReader 上一个 Reader，首次打开时为 null，可用于只预热新增的段
+     * @throws IOException 读取索引失败
+     */
+    void warm(String pathname, IndexSearcher indexSearcher, IndexReader previousReader) throws IOException;
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2017-2026 xqlee.com.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.xqlee.easylucene.service;
+
+import com.xqlee.easylucene.autoconfigure.EasyLuceneAutoConfiguration;
+import com.xqlee.easylucene.model.IndexDoc;
+import com.xqlee.easylucene.model.IndexField;
+import com.xqlee.easylucene.model.IndexFieldType;
+import com.xqlee.easylucene.model.SearchField;
+import com.xqlee.easylucene.model.SearchResult;
+import org.apache.lucene.search.BooleanClause;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 过滤字段精确匹配测试
+ */
+class SearchFieldFilterTest {
+
+    private static final String PATH = "filter";
+
+    @TempDir
+    static Path storePath;
+
+    static AnnotationConfigApplicationContext context;
+
+    static EasyLuceneQueryService queryService;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test",
+                Collections.singletonMap("spring.lucene.store_path", storePath.toString())));
+        context.register(EasyLuceneAutoConfiguration.class);
+        context.refresh();
+        queryService = context.getBean(EasyLuceneQueryService.class);
+        List<IndexDoc> documents = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            documents.add(new IndexDoc(
+                    new IndexField("id", String.valueOf(i), true, false),
+                    new IndexField("title", "hello lucene " + i, true, true),
+                    new IndexField("status", i % 2 == 0 ? "published" : "pub-lished", true, false),
+                    new IndexField("tenant", i < 5 ? "42" : "7", true, IndexFieldType.INT, false)));
+        }
+        context.getBean(EasyLuceneWriteService.class).writeIndex(documents, PATH);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void filterMatchesRawValue() {
+        assertEquals(10, filterTotal(SearchField.filter("status", "published")));
+        assertEquals(10, filterTotal(SearchField.filter("status", "pub-lished")));
+    }
+
+    @Test
+    void filterMatchesPointField() {
+        assertEquals(5, filterTotal(SearchField.filter("tenant", IndexFieldType.INT, "42")));
+        assertEquals(15, filterTotal(SearchField.filter("tenant", IndexFieldType.INT, "7")));
+    }
+
+    @Test
+    void varargsOverloadAppliesFilter() {
+        SearchResult result = queryService.queryMultiField(1, 10, PATH,
+                new SearchField("title", "hello", false, BooleanClause.Occur.MUST),
+                SearchField.filter("status", "published"));
+        assertEquals(10, result.getTotal());
+    }
+
+    private long filterTotal(SearchField filter) {
+        List<SearchField> searchFields = new ArrayList<>();
+        searchFields.add(new SearchField("title", "hello", false, BooleanClause.Occur.MUST));
+        searchFields.add(filter);
+        SearchResult result = queryService.queryMultiField(1, 10, searchFields, PATH);
+        return result.getTotal();
+    }
+}